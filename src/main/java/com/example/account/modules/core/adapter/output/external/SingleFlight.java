@@ -0,0 +1,88 @@
+package com.example.account.modules.core.adapter.output.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for outbound lookups: concurrent subscribers asking for the same (name, key)
+ * share one in-flight call instead of each hitting the remote service.
+ *
+ * Nothing is cached once the call terminates: the entry is dropped on success, empty or error, and
+ * the next caller starts a fresh call. Keys must include the organization id for tenant-scoped calls.
+ * Metrics: kernel.singleflight.calls{name, outcome=leader|coalesced} (hit rate = coalesced / total)
+ * and kernel.singleflight.inflight.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<Key, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("kernel.singleflight.inflight", inFlight, Map::size)
+                .description("Appels sortants en cours partagés par single-flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to {@code call} only if no identical call is running, otherwise joins it.
+     * The shared call runs with the subscriber context of the caller that started it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String name, Object key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Key k = new Key(name, key);
+            AtomicReference<Mono<T>> created = new AtomicReference<>();
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(k, ignored -> {
+                AtomicReference<Mono<T>> self = new AtomicReference<>();
+                Mono<T> mono = Mono.defer(call)
+                        .doFinally(signal -> inFlight.remove(k, self.get()))
+                        .cache();
+                self.set(mono);
+                created.set(mono);
+                return mono;
+            });
+            counters(name)[created.get() == shared ? 0 : 1].increment();
+            return shared;
+        });
+    }
+
+    /**
+     * Same as {@link #execute} for a multi-valued call: the elements are collected once and replayed
+     * to every subscriber.
+     */
+    public <T> Flux<T> executeMany(String name, Object key, Supplier<Flux<T>> call) {
+        return this.<List<T>>execute(name, key, () -> call.get().collectList())
+                .flatMapIterable(list -> list);
+    }
+
+    private Counter[] counters(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter[] {
+                counter(n, "leader"),
+                counter(n, "coalesced")
+        });
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("kernel.singleflight.calls")
+                .description("Appels sortants demandés, par issue (leader = appel émis, coalesced = appel partagé)")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Key(String name, Object key) {
+    }
+}
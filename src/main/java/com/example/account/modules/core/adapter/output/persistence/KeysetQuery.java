@@ -0,0 +1,65 @@
+package com.example.account.modules.core.adapter.output.persistence;
+
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builds keyset (seek) queries shared by the persistence adapters.
+ *
+ * Rows are ordered newest first on (sort key, id) inside one organization, so a page is
+ * {@code WHERE organization_id = :org AND (sort, id) < (:sort, :id) ORDER BY sort DESC, id DESC LIMIT n + 1}.
+ * Backed by the (organization_id, sort, id) indexes, page N costs the same as page 1.
+ */
+public final class KeysetQuery {
+
+    private static final String ORGANIZATION_PROPERTY = "organizationId";
+
+    private KeysetQuery() {
+    }
+
+    /**
+     * One extra row is fetched to detect whether a next page exists.
+     */
+    public static Query after(UUID organizationId, KeysetCursor cursor, String sortProperty, String idProperty, int limit) {
+        Criteria criteria = Criteria.where(ORGANIZATION_PROPERTY).is(organizationId);
+        if (cursor != null) {
+            criteria = criteria.and(Criteria.where(sortProperty).lessThan(cursor.getSortValue())
+                    .or(Criteria.where(sortProperty).is(cursor.getSortValue()).and(idProperty).lessThan(cursor.getId())));
+        }
+        return Query.query(criteria)
+                .sort(Sort.by(Sort.Order.desc(sortProperty), Sort.Order.desc(idProperty)))
+                .limit(limit + 1);
+    }
+
+    /**
+     * Collects the rows of a query built by {@link #after} into a page, issuing the next cursor
+     * from the last row kept.
+     */
+    public static <E, D> Mono<KeysetPage<D>> toPage(Flux<E> rows,
+                                                    UUID organizationId,
+                                                    int limit,
+                                                    Function<E, LocalDateTime> sortValue,
+                                                    Function<E, UUID> id,
+                                                    Function<E, D> mapper) {
+        return rows.collectList().map(list -> {
+            boolean hasNext = list.size() > limit;
+            List<E> kept = hasNext ? list.subList(0, limit) : list;
+            String nextCursor = null;
+            if (hasNext) {
+                E last = kept.get(kept.size() - 1);
+                nextCursor = new KeysetCursor(organizationId, sortValue.apply(last), id.apply(last)).encode();
+            }
+            return new KeysetPage<>(kept.stream().map(mapper).toList(), nextCursor);
+        });
+    }
+}
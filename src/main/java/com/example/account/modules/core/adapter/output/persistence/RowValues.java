@@ -0,0 +1,44 @@
+package com.example.account.modules.core.adapter.output.persistence;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+/**
+ * Column access for the hand-written Row converters.
+ *
+ * Columns missing from the result set (header-only projections) read as null, like the
+ * reflective converter does; the {@code fallback} variants keep an entity default when the
+ * column is absent or SQL NULL.
+ */
+public final class RowValues {
+
+    private final Row row;
+    private final RowMetadata metadata;
+
+    private RowValues(Row row) {
+        this.row = row;
+        this.metadata = row.getMetadata();
+    }
+
+    public static RowValues of(Row row) {
+        return new RowValues(row);
+    }
+
+    public boolean has(String column) {
+        return metadata.contains(column);
+    }
+
+    public <T> T get(String column, Class<T> type) {
+        return has(column) ? row.get(column, type) : null;
+    }
+
+    public <T> T get(String column, Class<T> type, T fallback) {
+        T value = get(column, type);
+        return value != null ? value : fallback;
+    }
+
+    public <E extends Enum<E>> E getEnum(String column, Class<E> type) {
+        String value = get(column, String.class);
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
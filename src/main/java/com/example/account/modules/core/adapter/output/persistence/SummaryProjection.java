@@ -0,0 +1,52 @@
+package com.example.account.modules.core.adapter.output.persistence;
+
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Header-only reads for list endpoints: selects every mapped column of an entity except the
+ * line-item JSONB ones, so those are neither transferred nor decoded. The excluded properties
+ * come back null on the entity.
+ */
+public final class SummaryProjection {
+
+    private static final Map<ColumnsKey, SqlIdentifier[]> COLUMNS = new ConcurrentHashMap<>();
+
+    private SummaryProjection() {
+    }
+
+    public static <E> Flux<E> select(R2dbcEntityTemplate entityTemplate, Class<E> entityType,
+                                     Criteria criteria, Set<String> excludedProperties) {
+        SqlIdentifier[] columns = COLUMNS.computeIfAbsent(new ColumnsKey(entityType, Set.copyOf(excludedProperties)),
+                key -> columns(entityTemplate, key.entityType(), key.excludedProperties()));
+        return entityTemplate.select(Query.query(criteria).columns(columns), entityType);
+    }
+
+    private static SqlIdentifier[] columns(R2dbcEntityTemplate entityTemplate, Class<?> entityType,
+                                               Set<String> excludedProperties) {
+        RelationalPersistentEntity<?> entity = entityTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityType);
+        List<SqlIdentifier> columns = new ArrayList<>();
+        entity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+            if (!excludedProperties.contains(property.getName())) {
+                columns.add(property.getColumnName());
+            }
+        });
+        return columns.toArray(SqlIdentifier[]::new);
+    }
+
+    private record ColumnsKey(Class<?> entityType, Set<String> excludedProperties) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.account.modules.core.adapter.output.persistence;
+
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Tenant predicate push-down for the persistence adapters.
+ *
+ * Organization-scoped repository methods take the organization id as their first bind parameter
+ * ({@code WHERE organization_id = :organizationId AND ...}), so every query runs as an index range
+ * scan inside one tenant. These helpers resolve that id from {@link ReactiveOrganizationContext}
+ * and fail closed: without an organization in the Reactor context, no query is issued and the
+ * caller gets an {@link IllegalStateException}.
+ */
+public final class TenantScope {
+
+    private TenantScope() {
+    }
+
+    public static <T> Flux<T> flux(Function<UUID, ? extends Publisher<T>> query) {
+        return ReactiveOrganizationContext.getOrganizationId().flatMapMany(query);
+    }
+
+    public static <T> Mono<T> mono(Function<UUID, ? extends Mono<T>> query) {
+        return ReactiveOrganizationContext.getOrganizationId().flatMap(query);
+    }
+
+    /**
+     * Resolves an explicitly supplied organization (a row being written, a query argument)
+     * against the current one: null means the current organization, anything else must match it.
+     */
+    public static UUID owner(UUID requestedOrganizationId, UUID organizationId) {
+        if (requestedOrganizationId == null) {
+            return organizationId;
+        }
+        if (!requestedOrganizationId.equals(organizationId)) {
+            throw new IllegalStateException("Accès refusé : la ressource appartient à une autre organisation");
+        }
+        return requestedOrganizationId;
+    }
+}
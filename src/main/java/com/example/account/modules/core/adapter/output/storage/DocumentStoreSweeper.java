@@ -0,0 +1,62 @@
+package com.example.account.modules.core.adapter.output.storage;
+
+import com.example.account.modules.core.domain.port.output.DocumentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodic retention pass over the {@link DocumentStore}: every {@code comops.documents.sweep-interval}
+ * it removes documents older than {@code comops.documents.retention} (0 keeps them forever) along with
+ * abandoned temporary files and empty shard directories.
+ */
+@Slf4j
+@Component
+public class DocumentStoreSweeper implements InitializingBean, DisposableBean {
+
+    private final DocumentStore documentStore;
+    private final Duration interval;
+    private final Duration retention;
+    private Disposable subscription;
+
+    public DocumentStoreSweeper(DocumentStore documentStore,
+                                @Value("${comops.documents.sweep-interval:6h}") Duration interval,
+                                @Value("${comops.documents.retention:0}") Duration retention) {
+        this.documentStore = documentStore;
+        this.interval = interval;
+        this.retention = retention;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> sweep())
+                .subscribe();
+    }
+
+    public Mono<Long> sweep() {
+        Instant cutoff = retention.isZero() ? null : Instant.now().minus(retention);
+        return documentStore.sweep(cutoff)
+                .doOnNext(removed -> log.info("Purge du stockage des documents: {} entrées supprimées", removed))
+                .onErrorResume(e -> {
+                    log.warn("Purge du stockage des documents impossible: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
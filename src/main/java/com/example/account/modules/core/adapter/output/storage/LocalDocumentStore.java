@@ -0,0 +1,140 @@
+package com.example.account.modules.core.adapter.output.storage;
+
+import com.example.account.modules.core.domain.port.output.DocumentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DocumentStore} on the local file system, under {@code comops.documents.local.root}.
+ *
+ * Content is written through an AsynchronousFileChannel to a temporary sibling and renamed into
+ * place atomically, so a reader never sees a partial document. Storing an existing document only
+ * refreshes its modification time, which is what retention looks at.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comops.documents.store", havingValue = "local", matchIfMissing = true)
+public class LocalDocumentStore implements DocumentStore {
+
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final Duration TMP_GRACE = Duration.ofHours(1);
+    private static final int READ_BUFFER = 64 * 1024;
+    private static final int PUT_RETRIES = 3;
+
+    private final Path root;
+
+    public LocalDocumentStore(@Value("${comops.documents.local.root:pdfs/store}") String root) throws IOException {
+        this.root = Files.createDirectories(Paths.get(root).toAbsolutePath().normalize());
+        log.info("Stockage local des documents: {}", this.root);
+    }
+
+    /**
+     * A shard directory emptied by a concurrent {@link #sweep} can vanish between its creation and
+     * the write; the put is then retried from the start.
+     */
+    @Override
+    public Mono<String> put(String namespace, byte[] content, String extension) {
+        return Mono.defer(() -> {
+                    String key = DocumentStore.key(namespace, content, extension);
+                    Path target = root.resolve(key);
+                    return Mono.fromCallable(() -> {
+                                if (Files.exists(target)) {
+                                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                                    return true;
+                                }
+                                Files.createDirectories(target.getParent());
+                                return false;
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(exists -> exists ? Mono.just(key) : write(target, content).thenReturn(key));
+                })
+                .retryWhen(Retry.max(PUT_RETRIES).filter(NoSuchFileException.class::isInstance));
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.defer(() -> {
+            Path file = root.resolve(DocumentStore.checkKey(key));
+            return DataBufferUtils.join(DataBufferUtils.read(file, DefaultDataBufferFactory.sharedInstance, READ_BUFFER))
+                    .map(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        return bytes;
+                    })
+                    .onErrorResume(NoSuchFileException.class, e -> Mono.empty());
+        });
+    }
+
+    @Override
+    public Mono<Long> sweep(Instant cutoff) {
+        return Mono.fromCallable(() -> {
+            AtomicLong removed = new AtomicLong();
+            Instant tmpCutoff = Instant.now().minus(TMP_GRACE);
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    Instant modified = attributes.lastModifiedTime().toInstant();
+                    boolean expired = file.getFileName().toString().endsWith(TMP_SUFFIX)
+                            ? modified.isBefore(tmpCutoff)
+                            : cutoff != null && modified.isBefore(cutoff);
+                    if (expired && Files.deleteIfExists(file)) {
+                        removed.incrementAndGet();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                    if (!dir.equals(root)) {
+                        try (var entries = Files.list(dir)) {
+                            if (entries.findAny().isEmpty()) {
+                                Files.deleteIfExists(dir);
+                            }
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return removed.get();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> write(Path target, byte[] content) {
+        Path tmp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + TMP_SUFFIX);
+        Mono<DataBuffer> buffer = Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance.wrap(content));
+        return DataBufferUtils.write(buffer, tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                .then(Mono.fromCallable(() -> Files.move(tmp, target,
+                                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> Mono.fromCallable(() -> Files.deleteIfExists(tmp))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(ignored -> Mono.just(false))
+                        .then(Mono.error(e)))
+                .then();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.account.modules.core.adapter.output.storage;
+
+import com.example.account.modules.core.domain.port.output.DocumentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+/**
+ * {@link DocumentStore} on an S3-compatible object store (AWS S3, MinIO, ...), path-style
+ * ({@code <endpoint>/<bucket>/<key>}) and signed with AWS Signature V4.
+ *
+ * Retention is left to the bucket's lifecycle rules: {@link #sweep} removes nothing.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comops.documents.store", havingValue = "s3")
+public class S3DocumentStore implements DocumentStore {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SIGNED_HEADERS = "host;x-amz-content-sha256;x-amz-date";
+    private static final String EMPTY_PAYLOAD = DocumentStore.sha256Hex(new byte[0]);
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final WebClient webClient;
+    private final String host;
+    private final String bucket;
+    private final String region;
+    private final String accessKey;
+    private final String secretKey;
+
+    public S3DocumentStore(WebClient.Builder webClientBuilder,
+                           @Value("${comops.documents.s3.endpoint}") String endpoint,
+                           @Value("${comops.documents.s3.bucket}") String bucket,
+                           @Value("${comops.documents.s3.region:us-east-1}") String region,
+                           @Value("${comops.documents.s3.access-key}") String accessKey,
+                           @Value("${comops.documents.s3.secret-key}") String secretKey) {
+        URI uri = URI.create(endpoint);
+        boolean defaultPort = uri.getPort() == -1
+                || ("http".equals(uri.getScheme()) && uri.getPort() == 80)
+                || ("https".equals(uri.getScheme()) && uri.getPort() == 443);
+        this.host = defaultPort ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        this.webClient = webClientBuilder.baseUrl(endpoint).build();
+        this.bucket = bucket;
+        this.region = region;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        log.info("Stockage S3 des documents: {}/{}", endpoint, bucket);
+    }
+
+    @Override
+    public Mono<String> put(String namespace, byte[] content, String extension) {
+        String key = DocumentStore.key(namespace, content, extension);
+        return exists(key).flatMap(exists -> exists
+                ? Mono.just(key)
+                : webClient.put()
+                        .uri(path(key))
+                        .headers(sign(HttpMethod.PUT, path(key), DocumentStore.sha256Hex(content)))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .bodyValue(content)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .thenReturn(key));
+    }
+
+    @Override
+    public Mono<byte[]> get(String key) {
+        return Mono.defer(() -> {
+            String path = path(DocumentStore.checkKey(key));
+            return webClient.get()
+                    .uri(path)
+                    .headers(sign(HttpMethod.GET, path, EMPTY_PAYLOAD))
+                    .exchangeToMono(response -> response.statusCode() == HttpStatus.NOT_FOUND
+                            ? response.releaseBody().then(Mono.<byte[]>empty())
+                            : response.statusCode().is2xxSuccessful()
+                                    ? response.bodyToMono(byte[].class)
+                                    : response.createError());
+        });
+    }
+
+    @Override
+    public Mono<Long> sweep(Instant cutoff) {
+        log.debug("Rétention S3 déléguée aux règles de cycle de vie du bucket {}", bucket);
+        return Mono.just(0L);
+    }
+
+    private Mono<Boolean> exists(String key) {
+        String path = path(key);
+        return webClient.head()
+                .uri(path)
+                .headers(sign(HttpMethod.HEAD, path, EMPTY_PAYLOAD))
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()));
+    }
+
+    /**
+     * Keys and bucket names only hold URI-safe characters, so the path is its own canonical form.
+     */
+    private String path(String key) {
+        return "/" + bucket + "/" + key;
+    }
+
+    private Consumer<HttpHeaders> sign(HttpMethod method, String path, String payloadHash) {
+        String amzDate = AMZ_DATE.format(Instant.now());
+        String date = amzDate.substring(0, 8);
+        String scope = date + "/" + region + "/s3/aws4_request";
+        String canonicalRequest = method.name() + "\n"
+                + path + "\n"
+                + "\n"
+                + "host:" + host + "\n"
+                + "x-amz-content-sha256:" + payloadHash + "\n"
+                + "x-amz-date:" + amzDate + "\n"
+                + "\n"
+                + SIGNED_HEADERS + "\n"
+                + payloadHash;
+        String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n" + DocumentStore.sha256Hex(canonicalRequest);
+        byte[] signingKey = hmac(hmac(hmac(hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date),
+                region), "s3"), "aws4_request");
+        String signature = HexFormat.of().formatHex(hmac(signingKey, stringToSign));
+        return headers -> {
+            headers.set("x-amz-date", amzDate);
+            headers.set("x-amz-content-sha256", payloadHash);
+            headers.set(HttpHeaders.AUTHORIZATION, ALGORITHM + " Credential=" + accessKey + "/" + scope
+                    + ", SignedHeaders=" + SIGNED_HEADERS + ", Signature=" + signature);
+        };
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Signature S3 impossible", e);
+        }
+    }
+}
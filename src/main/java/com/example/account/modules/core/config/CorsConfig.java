@@ -1,5 +1,6 @@
 package com.example.account.modules.core.config;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,6 +25,9 @@ public class CorsConfig {
         // Allow all headers (Authorization, Content-Type, etc.)
         config.setAllowedHeaders(Arrays.asList("*")); 
 
+        // Headers readable by the frontend (keyset pagination cursor)
+        config.setExposedHeaders(Arrays.asList(KeysetPage.NEXT_CURSOR_HEADER));
+
         // Allow credentials like cookies or Authorization headers
         config.setAllowCredentials(true);
 
@@ -0,0 +1,67 @@
+package com.example.account.modules.core.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection factory decorating the R2DBC pool to record acquire latency.
+ *
+ * Exposes {@code r2dbc.pool.acquire} (histogram, tagged by pool name and outcome). The pool
+ * itself stays reachable through {@link Wrapped#unwrap()}, so Actuator still binds the
+ * {@code r2dbc.pool.acquired/idle/pending/allocated} gauges to it.
+ */
+public class InstrumentedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, AutoCloseable {
+
+    private final ConnectionPool pool;
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+
+    public InstrumentedConnectionFactory(ConnectionPool pool, String poolName, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.acquireSuccess = acquireTimer(poolName, "success", meterRegistry);
+        this.acquireFailure = acquireTimer(poolName, "error", meterRegistry);
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> acquireFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return pool;
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+
+    private static Timer acquireTimer(String poolName, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting for a pooled R2DBC connection")
+                .tag("name", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.account.modules.core.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codecs for the JSONB line-item columns (lignes_facture, lignes_devis, ...).
+ *
+ * The list type, ObjectReader and ObjectWriter of each line class are resolved once at registration.
+ * Decoding streams straight from the driver's buffer and encoding writes bytes, so no intermediate
+ * String is built per row. Timings go to jsonb.lines.decode / jsonb.lines.encode and undecodable
+ * columns to jsonb.lines.decode.errors, all tagged with the line type.
+ */
+@Slf4j
+public class JsonbLineCodecs {
+
+    private final Map<Class<?>, LineCodec> codecs = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper;
+    private final ObjectWriter untypedWriter;
+    private final MeterRegistry meterRegistry;
+
+    public JsonbLineCodecs(ObjectMapper mapper, MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        this.untypedWriter = mapper.writer();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public JsonbLineCodecs register(Class<?> lineType) {
+        codecs.computeIfAbsent(lineType, LineCodec::new);
+        return this;
+    }
+
+    /**
+     * A column that cannot be decoded is logged, counted and fails the read, so that a later save
+     * cannot overwrite the stored lines with an empty list.
+     */
+    public List<?> decode(Json json, Class<?> lineType) {
+        LineCodec codec = codecs.get(lineType);
+        if (codec == null) {
+            throw new IllegalArgumentException("Aucun codec JSONB enregistré pour " + lineType.getName());
+        }
+        return codec.decode(json);
+    }
+
+    /**
+     * Uses the writer of the first element's line type when registered, the plain writer otherwise.
+     */
+    public Json encode(List<?> lines) {
+        LineCodec codec = lines.isEmpty() || lines.get(0) == null ? null : codecs.get(lines.get(0).getClass());
+        if (codec != null) {
+            return codec.encode(lines);
+        }
+        try {
+            return Json.of(untypedWriter.writeValueAsBytes(lines));
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossible de sérialiser les lignes en JSONB", e);
+        }
+    }
+
+    private final class LineCodec {
+
+        private final String typeName;
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
+        private final Timer decodeTimer;
+        private final Timer encodeTimer;
+        private final Counter decodeErrors;
+
+        LineCodec(Class<?> lineType) {
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, lineType);
+            this.typeName = lineType.getSimpleName();
+            this.reader = mapper.readerFor(listType);
+            this.writer = mapper.writerFor(listType);
+            this.decodeTimer = Timer.builder("jsonb.lines.decode").tag("type", typeName).register(meterRegistry);
+            this.encodeTimer = Timer.builder("jsonb.lines.encode").tag("type", typeName).register(meterRegistry);
+            this.decodeErrors = Counter.builder("jsonb.lines.decode.errors").tag("type", typeName).register(meterRegistry);
+        }
+
+        List<?> decode(Json json) {
+            long start = System.nanoTime();
+            try {
+                List<?> lines = json.mapInputStream(in -> {
+                    try {
+                        return reader.readValue(in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                return lines != null ? lines : new ArrayList<>();
+            } catch (RuntimeException e) {
+                decodeErrors.increment();
+                log.warn("Lignes JSONB {} illisibles: {}", typeName, e.getMessage());
+                throw new IllegalStateException("Impossible de lire les lignes " + typeName + " depuis le JSONB", e);
+            } finally {
+                decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        Json encode(List<?> lines) {
+            long start = System.nanoTime();
+            try {
+                return Json.of(writer.writeValueAsBytes(lines));
+            } catch (IOException e) {
+                throw new IllegalStateException("Impossible de sérialiser les lignes " + typeName + " en JSONB", e);
+            } finally {
+                encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
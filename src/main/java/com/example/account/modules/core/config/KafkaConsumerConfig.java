@@ -1,6 +1,7 @@
 package com.example.account.modules.core.config;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,8 +10,9 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.listener.ContainerProperties;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,30 +26,52 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:account-service-group}")
     private String groupId;
 
+    /**
+     * Listener threads per container; matching the partition count lets each thread own a share of
+     * the organizations. Each consumer class has its own group, suffixed with its concern.
+     */
+    @Value("${comops.kafka.listener.concurrency:${comops.kafka.topics.partitions:6}}")
+    private int concurrency;
+
+    @Value("${comops.kafka.listener.batch.max-records:500}")
+    private int batchMaxRecords;
+
+    @Value("${comops.kafka.listener.batch.max-wait:100ms}")
+    private Duration batchMaxWait;
+
+    @Value("${comops.kafka.listener.batch.min-bytes:65536}")
+    private int batchMinBytes;
+
+    /**
+     * Listeners receive the raw bytes of each event, decoded by EventEnvelopeCodec, in batches of up to
+     * {@code comops.kafka.listener.batch.max-records}: the broker answers a fetch once it holds
+     * {@code min-bytes} or after {@code max-wait}, whichever comes first.
+     */
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, byte[]> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        
-        // Use JSON deserializer for values, trusting our own packages
-        JsonDeserializer<Object> deserializer = new JsonDeserializer<>(Object.class);
-        deserializer.addTrustedPackages("com.example.account.*", "java.util.*");
-        deserializer.setRemoveTypeHeaders(false);
-        deserializer.setUseTypeMapperForKey(true);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) batchMaxWait.toMillis());
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, batchMinBytes);
 
         return new DefaultKafkaConsumerFactory<>(
                 configProps, 
                 new StringDeserializer(), 
-                deserializer
+                new ByteArrayDeserializer()
         );
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
 }
@@ -1,6 +1,7 @@
 package com.example.account.modules.core.config;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,18 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${comops.outbox.producer.linger-ms:20}")
+    private int outboxLingerMs;
+
+    @Value("${comops.outbox.producer.batch-size:131072}")
+    private int outboxBatchSize;
+
+    @Value("${comops.outbox.producer.compression-type:lz4}")
+    private String outboxCompressionType;
+
+    @Value("${comops.outbox.producer.max-block-ms:5000}")
+    private int outboxMaxBlockMs;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -32,4 +45,31 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * Producer of the outbox relay: payloads are already serialized JSON. Idempotent with acks=all
+     * so retries neither duplicate nor reorder records of a partition, and tuned for throughput
+     * (linger, large batches, compression) since the relay publishes in batches. max.block.ms is
+     * kept short so an unreachable broker fails the batch instead of holding the relay's lock.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, outboxLingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, outboxBatchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, outboxCompressionType);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, outboxMaxBlockMs);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
 }
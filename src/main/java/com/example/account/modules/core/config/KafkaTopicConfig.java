@@ -1,45 +1,87 @@
 package com.example.account.modules.core.config;
 
+import com.example.account.modules.core.service.RetryTopics;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Topics published by this service, plus the retry and dead-letter topics ({@link RetryTopics}) of
+ * those and of the topics it consumes from other services. Events are partitioned on their
+ * organization, so the partition count bounds how many listener threads a consumer group can use.
+ *
+ * Every topic gets {@code comops.kafka.topics.partitions} partitions unless overridden with
+ * {@code comops.kafka.topics.<topic>.partitions}. KafkaAdmin adds partitions to existing topics
+ * on startup but never removes any.
+ */
 @Configuration
 public class KafkaTopicConfig {
 
-    @Bean
-    public NewTopic factureCreatedTopic() {
-        return TopicBuilder.name("facture-created").partitions(1).replicas(1).build();
-    }
+    private static final List<String> TOPICS = List.of(
+            "facture-created", "facture-updated", "facture-deleted", "facture-paid",
+            "devis-created", "devis-updated", "devis-deleted", "devis-accepted",
+            "paiement-created", "paiement-updated", "paiement-deleted",
+            "taxe-created", "taxe-updated", "taxe-deleted",
+            "journal-created", "journal-updated", "journal-deleted",
+            "bon-commande-created", "bon-commande-updated", "bon-commande-deleted");
 
-    @Bean
-    public NewTopic factureUpdatedTopic() {
-        return TopicBuilder.name("facture-updated").partitions(1).replicas(1).build();
-    }
+    /**
+     * Topics consumed here but published by other services.
+     */
+    private static final List<String> EXTERNAL_TOPICS = List.of(
+            "audit", "notification",
+            "banque-created", "banque-updated", "banque-deleted",
+            "bon-achat-created", "bon-achat-updated", "bon-achat-deleted",
+            "client-created", "client-updated", "client-deleted",
+            "remboursement-created", "remboursement-updated", "remboursement-deleted");
 
-    @Bean
-    public NewTopic factureDeletedTopic() {
-        return TopicBuilder.name("facture-deleted").partitions(1).replicas(1).build();
-    }
+    /**
+     * Topics of this service's own listeners, the only ones whose retry topics it consumes.
+     */
+    public static final List<String> CONSUMED_TOPICS = List.of(
+            "audit", "notification",
+            "banque-created", "banque-updated", "banque-deleted",
+            "bon-achat-created", "bon-achat-updated", "bon-achat-deleted",
+            "bon-commande-created", "bon-commande-updated", "bon-commande-deleted",
+            "client-created", "client-updated", "client-deleted",
+            "facture-created", "facture-updated", "facture-paid", "facture-deleted",
+            "journal-created", "journal-updated", "journal-deleted",
+            "paiement-created", "paiement-updated", "paiement-deleted",
+            "remboursement-created", "remboursement-updated", "remboursement-deleted",
+            "taxe-created", "taxe-updated", "taxe-deleted");
 
-    @Bean
-    public NewTopic facturePaidTopic() {
-        return TopicBuilder.name("facture-paid").partitions(1).replicas(1).build();
-    }
+    @Value("${comops.kafka.topics.partitions:6}")
+    private int defaultPartitions;
 
-    @Bean
-    public NewTopic devisCreatedTopic() {
-        return TopicBuilder.name("devis-created").partitions(1).replicas(1).build();
-    }
+    @Value("${comops.kafka.topics.replicas:1}")
+    private int replicas;
 
     @Bean
-    public NewTopic devisUpdatedTopic() {
-        return TopicBuilder.name("devis-updated").partitions(1).replicas(1).build();
+    public KafkaAdmin.NewTopics topics(Environment environment) {
+        Stream<String> retryTopics = Stream.concat(TOPICS.stream(), EXTERNAL_TOPICS.stream())
+                .flatMap(topic -> RetryTopics.of(topic).stream());
+        return new KafkaAdmin.NewTopics(Stream.concat(TOPICS.stream(), retryTopics)
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(environment.getProperty("comops.kafka.topics." + topic + ".partitions",
+                                Integer.class, defaultPartitions))
+                        .replicas(replicas)
+                        .build())
+                .toArray(NewTopic[]::new));
     }
 
-    @Bean
-    public NewTopic paiementCreatedTopic() {
-        return TopicBuilder.name("paiement-created").partitions(1).replicas(1).build();
+    /**
+     * Retry topics of {@link #CONSUMED_TOPICS} for the delay tier {@code tier} (0-based, see
+     * {@link RetryTopics#DELAYS}).
+     */
+    public static List<String> retryTopics(int tier) {
+        String suffix = RetryTopics.suffix(RetryTopics.DELAYS.get(tier));
+        return CONSUMED_TOPICS.stream().map(topic -> topic + suffix).toList();
     }
 }
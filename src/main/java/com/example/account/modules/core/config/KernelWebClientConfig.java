@@ -0,0 +1,101 @@
+package com.example.account.modules.core.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Single WebClient shared by every Kernel adapter.
+ *
+ * Backed by a named, bounded Reactor Netty connection pool ("kernel") with idle eviction, so slow Kernel
+ * responses queue up to {@code pending-acquire-max} requests and then fail fast instead of piling up.
+ * Pool and per-URI latency metrics go to Micrometer (reactor.netty.connection.provider.*,
+ * reactor.netty.http.client.*), ids in paths being collapsed to {id}; the Spring builder additionally
+ * records http.client.requests per URI template.
+ */
+@Configuration
+public class KernelWebClientConfig {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9a-fA-F-]{36}(?=/|$)");
+
+    @Value("${comops.kernel.ip}")
+    private String kernelIp;
+
+    @Value("${comops.kernel.http.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${comops.kernel.http.pending-acquire-max:500}")
+    private int pendingAcquireMax;
+
+    @Value("${comops.kernel.http.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${comops.kernel.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${comops.kernel.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${comops.kernel.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${comops.kernel.http.response-timeout:10s}")
+    private Duration responseTimeout;
+
+    @Value("${comops.kernel.http.h2c:false}")
+    private boolean h2c;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kernelConnectionProvider() {
+        return ConnectionProvider.builder("kernel")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient kernelWebClient(WebClient.Builder webClientBuilder, ConnectionProvider kernelConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(kernelConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .compress(true)
+                .metrics(true, uri -> ID_SEGMENT.matcher(uri).replaceAll("/{id}"));
+        if (h2c) {
+            httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+
+        return webClientBuilder.clone()
+                .baseUrl("http://" + kernelIp)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * Per-call override of the response timeout, e.g. for the heavier list endpoints:
+     * {@code kernelWebClient.get().uri(...).httpRequest(KernelWebClientConfig.responseTimeout(d))}.
+     */
+    public static Consumer<ClientHttpRequest> responseTimeout(Duration timeout) {
+        return request -> {
+            HttpClientRequest reactorRequest = request.getNativeRequest();
+            reactorRequest.responseTimeout(timeout);
+        };
+    }
+}
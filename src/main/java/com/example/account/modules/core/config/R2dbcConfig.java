@@ -1,19 +1,28 @@
 package com.example.account.modules.core.config;
 
-import com.example.account.modules.facturation.model.entity.BonAchat;
-import com.example.account.modules.facturation.model.entity.BonCommande;
+import com.example.account.modules.facturation.adapter.output.persistence.DevisRowConverter;
+import com.example.account.modules.facturation.adapter.output.persistence.FactureRowConverter;
+import com.example.account.modules.facturation.adapter.output.persistence.PaiementRowConverter;
 import com.example.account.modules.facturation.model.entity.LigneBonAchat;
 import com.example.account.modules.facturation.model.entity.LigneBonLivraison;
 import com.example.account.modules.facturation.domain.model.LigneDevis;
 import com.example.account.modules.facturation.domain.model.LigneFacture;
+import com.example.account.modules.facturation.domain.model.LigneFactureProforma;
+import com.example.account.modules.facturation.domain.model.LigneNoteCredit;
 import com.example.account.modules.facturation.model.entity.Lines.LineBonCommande;
 import com.example.account.modules.facturation.model.entity.Lines.LineBonReception;
 import com.example.account.modules.facturation.model.entity.Lines.LineFactureFournisseur;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.postgresql.codec.Json;
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,17 +39,36 @@ import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.transaction.ReactiveTransactionManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * R2DBC Configuration for reactive database access.
- * Configures PostgreSQL connection factory, transaction manager, and custom converters.
+ * Configures the pooled PostgreSQL connection factory, transaction manager, and custom converters.
  */
 @Configuration
 @EnableR2dbcRepositories(basePackages = "com.example.account.modules")
 public class R2dbcConfig extends AbstractR2dbcConfiguration {
 
+    private static final String POOL_NAME = "billing-r2dbc";
+
+    private static final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * Element types of the JSONB line-item columns.
+     */
+    private static final List<Class<?>> LINE_TYPES = List.of(
+            LineFactureFournisseur.class,
+            LigneFactureProforma.class,
+            LigneNoteCredit.class,
+            LigneDevis.class,
+            LigneFacture.class,
+            LigneBonAchat.class,
+            LigneBonLivraison.class,
+            LineBonCommande.class,
+            LineBonReception.class);
+
     @Value("${spring.r2dbc.url}")
     private String r2dbcUrl;
 
@@ -50,6 +78,59 @@ public class R2dbcConfig extends AbstractR2dbcConfiguration {
     @Value("${spring.r2dbc.password}")
     private String password;
 
+    @Value("${spring.r2dbc.pool.initial-size:10}")
+    private int initialSize;
+
+    @Value("${spring.r2dbc.pool.max-size:50}")
+    private int maxSize;
+
+    @Value("${spring.r2dbc.pool.max-idle-time:30m}")
+    private Duration maxIdleTime;
+
+    @Value("${spring.r2dbc.pool.max-life-time:1h}")
+    private Duration maxLifeTime;
+
+    @Value("${spring.r2dbc.pool.max-acquire-time:3s}")
+    private Duration maxAcquireTime;
+
+    @Value("${spring.r2dbc.pool.max-create-connection-time:5s}")
+    private Duration maxCreateConnectionTime;
+
+    @Value("${spring.r2dbc.pool.max-validation-time:2s}")
+    private Duration maxValidationTime;
+
+    @Value("${spring.r2dbc.pool.background-eviction-interval:2m}")
+    private Duration backgroundEvictionInterval;
+
+    @Value("${spring.r2dbc.pool.acquire-retry:1}")
+    private int acquireRetry;
+
+    @Value("${spring.r2dbc.pool.validation-query:}")
+    private String validationQuery;
+
+    @Value("${spring.r2dbc.properties.preparedStatementCacheQueries:256}")
+    private int preparedStatementCacheQueries;
+
+    /**
+     * Rows fetched per round trip; above 0, queries run on a server-side portal and the
+     * rest of the result is only pulled as downstream demand arrives.
+     */
+    @Value("${spring.r2dbc.properties.fetchSize:0}")
+    private int fetchSize;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public R2dbcConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Pooled connection factory. Connections are validated on acquire (LOCAL check, or the
+     * configured validation query), idle connections are evicted in the background, and each
+     * connection keeps a bounded cache of server-side prepared statements. Results are read
+     * through a server-side cursor of {@code fetchSize} rows, so streamed exports keep a
+     * constant footprint and a cancelled subscription stops the cursor.
+     */
     @Bean
     @Override
     public ConnectionFactory connectionFactory() {
@@ -61,15 +142,41 @@ public class R2dbcConfig extends AbstractR2dbcConfiguration {
         int port = Integer.parseInt(hostPort[1]);
         String database = parts[1];
 
-        return new PostgresqlConnectionFactory(
+        PostgresqlConnectionFactory postgres = new PostgresqlConnectionFactory(
             PostgresqlConnectionConfiguration.builder()
                 .host(host)
                 .port(port)
                 .database(database)
                 .username(username)
                 .password(password)
+                .applicationName(POOL_NAME)
+                .preparedStatementCacheQueries(preparedStatementCacheQueries)
+                .fetchSize(fetchSize)
+                .connectTimeout(maxCreateConnectionTime)
+                .tcpKeepAlive(true)
+                .tcpNoDelay(true)
                 .build()
         );
+
+        ConnectionPoolConfiguration.Builder pool = ConnectionPoolConfiguration.builder(postgres)
+                .name(POOL_NAME)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .maxAcquireTime(maxAcquireTime)
+                .maxCreateConnectionTime(maxCreateConnectionTime)
+                .maxValidationTime(maxValidationTime)
+                .backgroundEvictionInterval(backgroundEvictionInterval)
+                .acquireRetry(acquireRetry);
+        if (validationQuery == null || validationQuery.isBlank()) {
+            pool.validationDepth(ValidationDepth.LOCAL);
+        } else {
+            pool.validationQuery(validationQuery).validationDepth(ValidationDepth.REMOTE);
+        }
+
+        return new InstrumentedConnectionFactory(new ConnectionPool(pool.build()), POOL_NAME,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 
     @Bean
@@ -78,91 +185,78 @@ public class R2dbcConfig extends AbstractR2dbcConfiguration {
     }
 
     /**
-     * Custom converters for handling JSONB types and other PostgreSQL-specific types.
+     * Custom converters for the JSONB line-item columns, backed by {@link JsonbLineCodecs},
+     * and hand-written Row readers for the hottest entities (facture, devis, paiement).
      */
     @Override
-protected List<Object> getCustomConverters() {
-    List<Object> converters = new ArrayList<>();
-
-    // 1. Generic Writing Converter (One works for all Lists)
-    converters.add(new GenericListWritingConverter());
-
-    // 2. Specific Reading Converters (Conditional - match by generic element type)
-    converters.add(new GenericListReadingConverter(com.example.account.modules.facturation.model.entity.Lines.LineFactureFournisseur.class));
-    converters.add(new GenericListReadingConverter(com.example.account.modules.facturation.domain.model.LigneFactureProforma.class));
-    converters.add(new GenericListReadingConverter(com.example.account.modules.facturation.domain.model.LigneNoteCredit.class));
-
-    converters.add(new GenericListReadingConverter(LigneDevis.class));
-    converters.add(new GenericListReadingConverter(LigneFacture.class));
-    converters.add(new GenericListReadingConverter(LigneBonAchat.class));
-    converters.add(new GenericListReadingConverter(LigneBonLivraison.class));
-    converters.add(new GenericListReadingConverter(LineBonCommande.class));
-    converters.add(new GenericListReadingConverter(LineBonReception.class));
-      
-
-
-
-    return converters;
-}
-
-private static final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-
-/**
- * Truly Generic Writing Converter
- */
-@WritingConverter
-public static class GenericListWritingConverter implements Converter<List<?>, Json> {
-    @Override
-    public Json convert(List<?> source) {
-        try {
-            return Json.of(mapper.writeValueAsString(source));
-        } catch (Exception e) {
-            return Json.of("[]");
+    protected List<Object> getCustomConverters() {
+        JsonbLineCodecs codecs = new JsonbLineCodecs(mapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        List<Object> converters = new ArrayList<>();
+        converters.add(new GenericListWritingConverter(codecs));
+        for (Class<?> lineType : LINE_TYPES) {
+            codecs.register(lineType);
+            converters.add(new GenericListReadingConverter(codecs, lineType));
         }
+        converters.add(new FactureRowConverter(codecs));
+        converters.add(new DevisRowConverter(codecs));
+        converters.add(new PaiementRowConverter());
+        return converters;
     }
-}
 
-/**
- * Type-Safe Generic Reading Converter 
- * This solves the LinkedHashMap issue by passing the specific Class type.
- */
-@ReadingConverter
-public static class GenericListReadingConverter implements ConditionalGenericConverter {
-    private final Class<?> elementType;
+    /**
+     * Writes any line list as JSONB bytes.
+     */
+    @WritingConverter
+    public static class GenericListWritingConverter implements Converter<List<?>, Json> {
+        private final JsonbLineCodecs codecs;
 
-    public GenericListReadingConverter(Class<?> elementType) {
-        this.elementType = elementType;
-    }
+        public GenericListWritingConverter(JsonbLineCodecs codecs) {
+            this.codecs = codecs;
+        }
 
-    @Override
-    public Set<ConvertiblePair> getConvertibleTypes() {
-        return Collections.singleton(new ConvertiblePair(Json.class, List.class));
+        @Override
+        public Json convert(List<?> source) {
+            return codecs.encode(source);
+        }
     }
 
-    @Override
-    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
-        if (sourceType == null || targetType == null) {
-            return false;
+    /**
+     * Reads a JSONB column into a typed line list; matches List targets by element type,
+     * which avoids the LinkedHashMap elements an untyped read would produce.
+     */
+    @ReadingConverter
+    public static class GenericListReadingConverter implements ConditionalGenericConverter {
+        private final JsonbLineCodecs codecs;
+        private final Class<?> elementType;
+
+        public GenericListReadingConverter(JsonbLineCodecs codecs, Class<?> elementType) {
+            this.codecs = codecs;
+            this.elementType = elementType;
         }
-        if (!Json.class.isAssignableFrom(sourceType.getType())) {
-            return false;
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Collections.singleton(new ConvertiblePair(Json.class, List.class));
         }
-        TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
-        if (elementDesc == null) {
-            return false;
+
+        @Override
+        public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+            if (sourceType == null || targetType == null) {
+                return false;
+            }
+            if (!Json.class.isAssignableFrom(sourceType.getType())) {
+                return false;
+            }
+            TypeDescriptor elementDesc = targetType.getElementTypeDescriptor();
+            if (elementDesc == null) {
+                return false;
+            }
+            return elementDesc.getType().equals(this.elementType);
         }
-        return elementDesc.getType().equals(this.elementType);
-    }
 
-    @Override
-    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
-        Json json = (Json) source;
-        try {
-            return mapper.readValue(json.asString(),
-                    mapper.getTypeFactory().constructCollectionType(List.class, this.elementType));
-        } catch (Exception e) {
-            return new ArrayList<>();
+        @Override
+        public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+            return codecs.decode((Json) source, elementType);
         }
     }
 }
-}
@@ -0,0 +1,63 @@
+package com.example.account.modules.core.controller;
+
+import com.example.account.modules.core.dto.DeadLetterRecord;
+import com.example.account.modules.core.service.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Dead-letter administration. It reads and replays records of every organization, so it is only
+ * registered with {@code comops.kafka.dlt.admin.enabled=true}, on instances whose admin paths are
+ * reachable from a protected network only.
+ */
+@RestController
+@ConditionalOnProperty(name = "comops.kafka.dlt.admin.enabled", havingValue = "true")
+@RequestMapping("/api/admin/kafka/dlt")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dead letters", description = "Consultation et rejeu des événements Kafka en dead letter")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    @GetMapping("/{topic}")
+    @Operation(summary = "Lister les événements en dead letter d'un topic")
+    public Flux<DeadLetterRecord> list(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Requête de consultation des dead letters du topic: {}", topic);
+        return deadLetterService.list(topic, limit);
+    }
+
+    @PostMapping("/{topic}/replay")
+    @Operation(summary = "Rejouer des événements en dead letter",
+            description = "Rejoue l'événement désigné par partition et offset, ou à défaut tous les événements pas encore rejoués")
+    public Mono<ResponseEntity<Map<String, Long>>> replay(
+            @PathVariable String topic,
+            @RequestParam(required = false) Integer partition,
+            @RequestParam(required = false) Long offset,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("Requête de rejeu des dead letters du topic: {} (partition={}, offset={})", topic, partition, offset);
+        if ((partition == null) != (offset == null)) {
+            return Mono.error(new IllegalArgumentException("partition et offset doivent être fournis ensemble"));
+        }
+        Mono<Long> replayed = partition != null
+                ? deadLetterService.replay(topic, partition, offset)
+                : deadLetterService.replayAll(topic, limit);
+        return replayed.map(count -> ResponseEntity.ok(Map.of("replayed", count)));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.account.modules.core.domain.model;
+
+/**
+ * A named file of an archive, as produced by the use cases and written by ZipStream.
+ */
+public record ArchiveEntry(String name, byte[] content) {
+}
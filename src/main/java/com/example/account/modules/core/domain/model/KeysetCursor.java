@@ -0,0 +1,53 @@
+package com.example.account.modules.core.domain.model;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset pagination cursor on (organization_id, sort key, id).
+ * The token handed to clients is a URL-safe Base64 encoding of the three values;
+ * it points at the last row of the previous page.
+ */
+@Value
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    UUID organizationId;
+    LocalDateTime sortValue;
+    UUID id;
+
+    public String encode() {
+        String raw = organizationId + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token issued for the given organization.
+     * Returns null for an absent token (first page).
+     */
+    public static KeysetCursor decode(String token, UUID expectedOrganizationId) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        KeysetCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Curseur de pagination invalide");
+            }
+            cursor = new KeysetCursor(UUID.fromString(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide", e);
+        }
+        if (!cursor.getOrganizationId().equals(expectedOrganizationId)) {
+            throw new IllegalArgumentException("Le curseur de pagination n'appartient pas à l'organisation courante");
+        }
+        return cursor;
+    }
+}
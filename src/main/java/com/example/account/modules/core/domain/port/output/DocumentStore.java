@@ -0,0 +1,66 @@
+package com.example.account.modules.core.domain.port.output;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Storage of generated documents (PDFs), addressed by content.
+ *
+ * A document's key is {@code <namespace>/<h0h1>/<h2h3>/<sha256>.<extension>}: storing the same bytes
+ * twice keeps a single copy, and the two shard levels keep every directory (or listing prefix) small.
+ * Since one stored copy may back several documents, nothing is deleted by key: documents are only
+ * removed by retention ({@link #sweep}), and storing a document again refreshes it.
+ * Implementations: the local sharded store (default) and an S3-compatible one
+ * ({@code comops.documents.store=s3}).
+ */
+public interface DocumentStore {
+
+    Pattern KEY = Pattern.compile("[a-z0-9-]+(/[0-9a-f]{2}){2}/[0-9a-f]{64}\\.[a-z0-9]+");
+
+    /**
+     * Stores the content unless an identical document exists, and returns its key.
+     */
+    Mono<String> put(String namespace, byte[] content, String extension);
+
+    /**
+     * Content of a document, empty when it does not exist; an invalid key is signalled as an
+     * IllegalArgumentException error.
+     */
+    Mono<byte[]> get(String key);
+
+    /**
+     * Removes the documents last stored before {@code cutoff} (none when null) and the leftovers of
+     * interrupted writes; returns how many entries were removed.
+     */
+    Mono<Long> sweep(Instant cutoff);
+
+    static String key(String namespace, byte[] content, String extension) {
+        String hash = sha256Hex(content);
+        return namespace + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+    }
+
+    static String checkKey(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Clé de document invalide: " + key);
+        }
+        return key;
+    }
+
+    static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    static String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.account.modules.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterRecord {
+
+    private String topic;
+    private int partition;
+    private long offset;
+    private Instant timestamp;
+    private String key;
+    private String originalTopic;
+    private String listener;
+    private Integer attempts;
+    private String exception;
+    private EventEnvelope event;
+    private String value;
+}
@@ -0,0 +1,37 @@
+package com.example.account.modules.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Envelope of every domain event published by this service.
+ *
+ * {@code payload} is the document the event is about, or its id for deletions. Events received
+ * without an envelope (other services, topics published as JSON) are wrapped with
+ * {@code schemaVersion} 0. Unknown properties are ignored so that newer envelopes stay readable.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventEnvelope {
+
+    public static final int SCHEMA_VERSION = 1;
+
+    private int schemaVersion;
+    private UUID eventId;
+    private String eventType;
+    private UUID organizationId;
+    private String aggregateId;
+    private Long aggregateVersion;
+    private Instant occurredAt;
+    private JsonNode payload;
+}
@@ -0,0 +1,21 @@
+package com.example.account.modules.core.dto;
+
+import java.util.Arrays;
+
+/**
+ * Optional {@code include} query parameter of the list endpoints, a comma-separated list of
+ * the heavy parts to return. List endpoints answer with header-only rows unless asked for
+ * {@code include=lines}.
+ */
+public final class Includes {
+
+    public static final String LINES = "lines";
+
+    private Includes() {
+    }
+
+    public static boolean lines(String include) {
+        return include != null && Arrays.stream(include.split(","))
+                .anyMatch(part -> LINES.equalsIgnoreCase(part.trim()));
+    }
+}
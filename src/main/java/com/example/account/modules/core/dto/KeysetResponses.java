@@ -0,0 +1,24 @@
+package com.example.account.modules.core.dto;
+
+import com.example.account.modules.core.domain.model.KeysetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * Renders a keyset page as a plain JSON array, the next cursor travelling in the
+ * {@value KeysetPage#NEXT_CURSOR_HEADER} response header (absent on the last page).
+ */
+public final class KeysetResponses {
+
+    private KeysetResponses() {
+    }
+
+    public static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(KeysetPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return builder.body(page.getContent());
+    }
+}
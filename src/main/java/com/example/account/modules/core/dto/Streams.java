@@ -0,0 +1,24 @@
+package com.example.account.modules.core.dto;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Unbounded list endpoints answer as a JSON array, NDJSON ({@code application/x-ndjson}) or
+ * server-sent events ({@code text/event-stream}) depending on the Accept header.
+ *
+ * Demand is requested from the database in batches of {@link #BATCH} rows, replenished once
+ * three quarters have been written to the socket; Reactor Netty only asks for more while the
+ * channel is writable. A client disconnect cancels the subscription, which closes the
+ * server-side cursor.
+ */
+public final class Streams {
+
+    public static final int BATCH = 256;
+
+    private Streams() {
+    }
+
+    public static <T> Flux<T> export(Flux<T> rows) {
+        return rows.limitRate(BATCH);
+    }
+}
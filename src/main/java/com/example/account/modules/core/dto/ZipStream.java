@@ -0,0 +1,84 @@
+package com.example.account.modules.core.dto;
+
+import com.example.account.modules.core.domain.model.ArchiveEntry;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams a ZIP archive entry by entry: each entry is written to the response as soon as it
+ * arrives and only the central directory is held until the end, never the whole archive.
+ * Entries are STORED (already-compressed content such as PDFs gains nothing from deflate).
+ * Cancelling the returned Flux cancels the entry source.
+ */
+public final class ZipStream {
+
+    private ZipStream() {
+    }
+
+    public static Flux<DataBuffer> write(Flux<ArchiveEntry> entries, DataBufferFactory buffers) {
+        return Flux.using(Archive::new,
+                archive -> entries
+                        .concatMap(entry -> Mono.fromCallable(() -> buffers.wrap(archive.add(entry))))
+                        .concatWith(Mono.fromCallable(() -> buffers.wrap(archive.finish()))),
+                Archive::close);
+    }
+
+    private static final class Archive {
+
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private final ZipOutputStream zip = new ZipOutputStream(pending);
+        private final Set<String> names = new HashSet<>();
+
+        byte[] add(ArchiveEntry entry) throws IOException {
+            CRC32 crc = new CRC32();
+            crc.update(entry.content());
+            ZipEntry zipEntry = new ZipEntry(uniqueName(entry.name()));
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(entry.content().length);
+            zipEntry.setCompressedSize(entry.content().length);
+            zipEntry.setCrc(crc.getValue());
+            zip.putNextEntry(zipEntry);
+            zip.write(entry.content());
+            zip.closeEntry();
+            return drain();
+        }
+
+        byte[] finish() throws IOException {
+            zip.finish();
+            return drain();
+        }
+
+        void close() {
+            try {
+                zip.close();
+            } catch (IOException ignored) {
+                // in-memory stream, nothing to release
+            }
+        }
+
+        private byte[] drain() {
+            byte[] bytes = pending.toByteArray();
+            pending.reset();
+            return bytes;
+        }
+
+        private String uniqueName(String name) {
+            String candidate = name;
+            int dot = name.lastIndexOf('.');
+            for (int i = 2; !names.add(candidate); i++) {
+                candidate = dot > 0 ? name.substring(0, dot) + "-" + i + name.substring(dot) : name + "-" + i;
+            }
+            return candidate;
+        }
+    }
+}
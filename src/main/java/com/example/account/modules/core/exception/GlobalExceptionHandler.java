@@ -1,6 +1,8 @@
 package com.example.account.modules.core.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,15 +11,20 @@ import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @Value("${comops.overload.retry-after:5s}")
+    private Duration retryAfter;
+
     // 1. IllegalArgumentException
     @ExceptionHandler(IllegalArgumentException.class)
     public Mono<ResponseEntity<Object>> handleIllegalArgumentException(IllegalArgumentException ex, ServerWebExchange exchange) {
@@ -55,7 +62,17 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(body, HttpStatus.BAD_REQUEST));
     }
 
-    // 4. Fallback for all other exceptions
+    // 4. Saturated executor (bounded queue full): ask the client to come back later
+    @ExceptionHandler(RejectedExecutionException.class)
+    public Mono<ResponseEntity<Object>> handleRejectedExecutionException(RejectedExecutionException ex, ServerWebExchange exchange) {
+        log.warn("Service saturated at {}: {}", exchange.getRequest().getPath(), ex.getMessage());
+        return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE)
+                .map(response -> ResponseEntity.status(response.getStatusCode())
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())))
+                        .body(response.getBody()));
+    }
+
+    // 5. Fallback for all other exceptions
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<Object>> handleGlobalException(Exception ex, ServerWebExchange exchange) {
         log.error("Internal Server Error at {}: ", exchange.getRequest().getPath(), ex);
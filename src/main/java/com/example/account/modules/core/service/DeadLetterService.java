@@ -0,0 +1,225 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.dto.DeadLetterRecord;
+import com.example.account.modules.core.dto.EventEnvelope;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browsing and replay of the dead-letter topics.
+ *
+ * Listing reads a DLT from the beginning without committing anything. A replay publishes records
+ * back to their original topic, stripped of their retry headers: either one record, or every record
+ * the replay group ({@code <group-id>-dlt-replay}) has not replayed yet.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "comops.kafka.dlt.admin.enabled", havingValue = "true")
+public class DeadLetterService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+    private final EventEnvelopeCodec eventEnvelopeCodec;
+    private final String replayGroup;
+    private final Duration readTimeout;
+
+    public DeadLetterService(ConsumerFactory<String, byte[]> consumerFactory,
+                             KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                             EventEnvelopeCodec eventEnvelopeCodec,
+                             @Value("${spring.kafka.consumer.group-id:account-service-group}") String groupId,
+                             @Value("${comops.kafka.dlt.read-timeout:10s}") Duration readTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.eventEnvelopeCodec = eventEnvelopeCodec;
+        this.replayGroup = groupId + "-dlt-replay";
+        this.readTimeout = readTimeout;
+    }
+
+    public Flux<DeadLetterRecord> list(String topic, int limit) {
+        String deadLetterTopic = deadLetterTopic(topic);
+        return Mono.fromCallable(() -> {
+                    try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(null, "dlt-browser")) {
+                        List<TopicPartition> partitions = partitions(consumer, deadLetterTopic);
+                        consumer.assign(partitions);
+                        consumer.seekToBeginning(partitions);
+                        List<DeadLetterRecord> records = new ArrayList<>();
+                        read(consumer, partitions, limit, record -> records.add(toDeadLetterRecord(record)));
+                        return records;
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * Replays one record of the dead-letter topic.
+     */
+    public Mono<Long> replay(String topic, int partition, long offset) {
+        String deadLetterTopic = deadLetterTopic(topic);
+        return Mono.fromCallable(() -> {
+            try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(null, "dlt-replay")) {
+                TopicPartition topicPartition = new TopicPartition(deadLetterTopic, partition);
+                consumer.assign(List.of(topicPartition));
+                consumer.seek(topicPartition, offset);
+                List<ConsumerRecord<String, byte[]>> found = new ArrayList<>();
+                read(consumer, List.of(topicPartition), 1, found::add);
+                if (found.isEmpty() || found.get(0).offset() != offset) {
+                    throw new IllegalArgumentException("Événement introuvable dans " + deadLetterTopic
+                            + ": partition=" + partition + ", offset=" + offset);
+                }
+                republish(found);
+                log.info("Événement rejoué depuis {}: partition={}, offset={}", deadLetterTopic, partition, offset);
+                return 1L;
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Replays every record of the dead-letter topic not replayed yet, and returns how many were.
+     */
+    public Mono<Long> replayAll(String topic, int limit) {
+        String deadLetterTopic = deadLetterTopic(topic);
+        return Mono.fromCallable(() -> {
+            try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(replayGroup, "dlt-replay")) {
+                List<TopicPartition> partitions = partitions(consumer, deadLetterTopic);
+                consumer.assign(partitions);
+                Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+                for (TopicPartition partition : partitions) {
+                    OffsetAndMetadata position = committed.get(partition);
+                    if (position != null) {
+                        consumer.seek(partition, position.offset());
+                    } else {
+                        consumer.seekToBeginning(List.of(partition));
+                    }
+                }
+                List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+                read(consumer, partitions, limit, records::add);
+                republish(records);
+
+                Map<TopicPartition, OffsetAndMetadata> replayed = new HashMap<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    replayed.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+                consumer.commitSync(replayed);
+                log.info("{} événements rejoués depuis {}", records.size(), deadLetterTopic);
+                return (long) records.size();
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Polls the assigned partitions until {@code limit} records were read, their end was reached
+     * or the read timeout expired.
+     */
+    private void read(Consumer<String, byte[]> consumer, List<TopicPartition> partitions, int limit,
+                      java.util.function.Consumer<ConsumerRecord<String, byte[]>> sink) {
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+        long deadline = System.nanoTime() + readTimeout.toNanos();
+        int read = 0;
+        while (read < limit && System.nanoTime() < deadline
+                && partitions.stream().anyMatch(partition -> consumer.position(partition) < end.get(partition))) {
+            for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                if (read < limit && record.offset() < end.get(new TopicPartition(record.topic(), record.partition()))) {
+                    sink.accept(record);
+                    read++;
+                }
+            }
+        }
+    }
+
+    private void republish(List<ConsumerRecord<String, byte[]>> records) throws Exception {
+        CompletableFuture<?>[] sends = records.stream()
+                .map(record -> outboxKafkaTemplate.send(toOriginalRecord(record)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sends).get(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static ProducerRecord<String, byte[]> toOriginalRecord(ConsumerRecord<String, byte[]> record) {
+        ProducerRecord<String, byte[]> original = new ProducerRecord<>(originalTopic(record), record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!RetryTopics.HEADERS.contains(header.key())) {
+                original.headers().add(header);
+            }
+        }
+        return original;
+    }
+
+    /**
+     * The record with its decoded envelope, or its raw text when it cannot be decoded.
+     */
+    private DeadLetterRecord toDeadLetterRecord(ConsumerRecord<String, byte[]> record) {
+        String attempts = KafkaBatchProcessor.header(record, RetryTopics.ATTEMPT_HEADER);
+        EventEnvelope event = null;
+        String value = null;
+        try {
+            event = eventEnvelopeCodec.decode(record);
+        } catch (IllegalArgumentException e) {
+            value = new String(record.value(), StandardCharsets.UTF_8);
+        }
+        return DeadLetterRecord.builder()
+                .topic(record.topic())
+                .partition(record.partition())
+                .offset(record.offset())
+                .timestamp(Instant.ofEpochMilli(record.timestamp()))
+                .key(record.key())
+                .originalTopic(originalTopic(record))
+                .listener(KafkaBatchProcessor.header(record, RetryTopics.LISTENER_HEADER))
+                .attempts(attempts == null ? null : Integer.valueOf(attempts))
+                .exception(KafkaBatchProcessor.header(record, RetryTopics.EXCEPTION_HEADER))
+                .event(event)
+                .value(value)
+                .build();
+    }
+
+    private static String originalTopic(ConsumerRecord<String, byte[]> record) {
+        String originalTopic = KafkaBatchProcessor.header(record, RetryTopics.ORIGINAL_TOPIC_HEADER);
+        return originalTopic != null
+                ? originalTopic
+                : record.topic().substring(0, record.topic().length() - RetryTopics.DLT_SUFFIX.length());
+    }
+
+    private static String deadLetterTopic(String topic) {
+        if (topic == null || !topic.matches("[a-z0-9-]+")) {
+            throw new IllegalArgumentException("Topic invalide: " + topic);
+        }
+        return topic.endsWith(RetryTopics.DLT_SUFFIX) ? topic : topic + RetryTopics.DLT_SUFFIX;
+    }
+
+    private static List<TopicPartition> partitions(Consumer<String, byte[]> consumer, String topic) {
+        List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+        if (partitions == null || partitions.isEmpty()) {
+            throw new IllegalArgumentException("Topic dead letter inconnu: " + topic);
+        }
+        return partitions.stream()
+                .map(partition -> new TopicPartition(topic, partition.partition()))
+                .toList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.dto.EventEnvelope;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Builds, encodes and decodes {@link EventEnvelope}s.
+ *
+ * Envelopes travel as Jackson Smile (binary JSON, with repeated property names sent once), flagged
+ * by the {@value #CONTENT_TYPE_HEADER} header. Records without that header are read as JSON, either
+ * an envelope or a bare document which is wrapped as a version 0 envelope.
+ *
+ * What this service publishes is chosen per topic by {@code comops.events.format}, overridable with
+ * {@code comops.events.topics.<topic>.format}: {@code json} (the default) keeps the bare JSON
+ * document other services already read, {@code smile} publishes the envelope. Switching a topic to
+ * smile is a coordinated cutover: every consumer of the topic must decode envelopes first.
+ */
+@Component
+public class EventEnvelopeCodec {
+
+    public static final String CONTENT_TYPE_HEADER = MessageHeaders.CONTENT_TYPE;
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private static final String SMILE_FORMAT = "smile";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Environment environment;
+    private final String format;
+
+    public EventEnvelopeCodec(ObjectMapper objectMapper,
+                              Environment environment,
+                              @Value("${comops.events.format:json}") String format) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.environment = environment;
+        this.format = format;
+    }
+
+    /**
+     * Whether events of {@code topic} are published as Smile envelopes rather than bare JSON.
+     */
+    public boolean isBinary(String topic) {
+        return SMILE_FORMAT.equalsIgnoreCase(environment.getProperty("comops.events.topics." + topic + ".format", format));
+    }
+
+    /**
+     * Envelope of a new event on {@code topic} about {@code aggregateId}; {@code payload} may be null.
+     */
+    public EventEnvelope wrap(String topic, String aggregateId, UUID organizationId, Object payload) {
+        JsonNode tree = payload == null ? null : jsonMapper.valueToTree(payload);
+        JsonNode version = tree instanceof ObjectNode ? tree.get("version") : null;
+        return EventEnvelope.builder()
+                .schemaVersion(EventEnvelope.SCHEMA_VERSION)
+                .eventId(UUID.randomUUID())
+                .eventType(topic)
+                .organizationId(organizationId)
+                .aggregateId(aggregateId)
+                .aggregateVersion(version != null && version.isIntegralNumber() ? version.asLong() : null)
+                .occurredAt(Instant.now())
+                .payload(tree)
+                .build();
+    }
+
+    /**
+     * Bare JSON document, as published by the {@code json} format.
+     */
+    public String toJson(Object payload) {
+        try {
+            return jsonMapper.writeValueAsString(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Encodage JSON de l'événement impossible", e);
+        }
+    }
+
+    public byte[] encode(EventEnvelope envelope) {
+        try {
+            return smileMapper.writeValueAsBytes(envelope);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Encodage de l'événement " + envelope.getEventType() + " impossible", e);
+        }
+    }
+
+    public EventEnvelope decode(ConsumerRecord<String, byte[]> record) {
+        try {
+            if (record.value() == null) {
+                return legacy(record, null);
+            }
+            if (SMILE.equals(KafkaBatchProcessor.header(record, CONTENT_TYPE_HEADER))) {
+                return smileMapper.readValue(record.value(), EventEnvelope.class);
+            }
+            JsonNode tree = jsonMapper.readTree(record.value());
+            if (tree.has("eventId") && tree.has("schemaVersion")) {
+                // Relu depuis les octets: l'arbre arrondit les horodatages décimaux en double
+                return jsonMapper.readValue(record.value(), EventEnvelope.class);
+            }
+            return legacy(record, tree);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Événement illisible sur " + record.topic() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The envelope's payload as {@code type}, or null when it has none.
+     */
+    public <T> T payload(EventEnvelope envelope, Class<T> type) {
+        if (envelope.getPayload() == null || envelope.getPayload().isNull()) {
+            return null;
+        }
+        try {
+            return jsonMapper.treeToValue(envelope.getPayload(), type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Contenu de l'événement " + envelope.getEventType() + " illisible", e);
+        }
+    }
+
+    private static EventEnvelope legacy(ConsumerRecord<String, byte[]> record, JsonNode tree) {
+        UUID organizationId = KafkaBatchProcessor.organizationId(record);
+        JsonNode organization = tree == null ? null : tree.get("organizationId");
+        if (organizationId == null && organization != null && organization.isTextual()) {
+            try {
+                organizationId = UUID.fromString(organization.asText());
+            } catch (IllegalArgumentException e) {
+                organizationId = null;
+            }
+        }
+        return EventEnvelope.builder()
+                .schemaVersion(0)
+                .eventType(Objects.requireNonNullElse(
+                        KafkaBatchProcessor.header(record, RetryTopics.ORIGINAL_TOPIC_HEADER), record.topic()))
+                .organizationId(organizationId)
+                .aggregateId(record.key())
+                .occurredAt(Instant.ofEpochMilli(record.timestamp()))
+                .payload(tree)
+                .build();
+    }
+}
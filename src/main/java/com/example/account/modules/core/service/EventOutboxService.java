@@ -0,0 +1,74 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.dto.EventEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Transactional outbox: domain events are written to {@code event_outbox} on the connection of
+ * the surrounding R2DBC transaction, so an event exists if and only if the change that raised it
+ * was committed. {@link OutboxRelay} publishes the rows to Kafka.
+ *
+ * Events are stored already encoded, in the format of their topic (see {@link EventEnvelopeCodec}):
+ * a Smile {@link EventEnvelope} in {@code payload_binary}, or the bare JSON document in
+ * {@code payload} with its class name in {@code payload_type}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutboxService {
+
+    private static final String INSERT_BINARY_SQL = """
+            INSERT INTO event_outbox (topic, message_key, payload_binary, organization_id)
+            VALUES (:topic, :key, :payload, :organizationId)
+            """;
+
+    private static final String INSERT_JSON_SQL = """
+            INSERT INTO event_outbox (topic, message_key, payload, payload_type, organization_id)
+            VALUES (:topic, :key, :payload, :payloadType, :organizationId)
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final EventEnvelopeCodec eventEnvelopeCodec;
+
+    /**
+     * Appends an event about entity {@code key}.
+     */
+    public Mono<Void> append(String topic, String key, Object message) {
+        return ReactiveOrganizationContext.getOrganizationIdOrEmpty()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(organizationId -> Mono.fromCallable(() -> insert(topic, key, organizationId.orElse(null), message))
+                        .flatMap(spec -> {
+                            spec = key != null ? spec.bind("key", key) : spec.bindNull("key", String.class);
+                            spec = organizationId.isPresent()
+                                    ? spec.bind("organizationId", organizationId.get())
+                                    : spec.bindNull("organizationId", UUID.class);
+                            return spec.then();
+                        }))
+                .doOnSuccess(v -> log.debug("Événement ajouté à l'outbox pour le topic [{}] avec clé [{}]", topic, key));
+    }
+
+    private DatabaseClient.GenericExecuteSpec insert(String topic, String key, UUID organizationId, Object message) {
+        if (eventEnvelopeCodec.isBinary(topic)) {
+            return databaseClient.sql(INSERT_BINARY_SQL)
+                    .bind("topic", topic)
+                    .bind("payload", eventEnvelopeCodec.encode(eventEnvelopeCodec.wrap(topic, key, organizationId, message)));
+        }
+        return databaseClient.sql(INSERT_JSON_SQL)
+                .bind("topic", topic)
+                .bind("payload", eventEnvelopeCodec.toJson(message))
+                .bind("payloadType", message.getClass().getName());
+    }
+
+    public Mono<Void> append(String topic, Object message) {
+        return append(topic, null, message);
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Applies a batch of Kafka records, then acknowledges the batch.
+ *
+ * Each record runs with its organization (from the {@value OutboxRelay#ORGANIZATION_HEADER} header)
+ * in the Reactor context. For {@link KafkaEventHandler#transactional() transactional} handlers the
+ * batch runs in one R2DBC transaction and each record under its own savepoint. A failing record is
+ * rolled back and moved to the next retry topic (see {@link RetryTopics}) while the rest of the
+ * batch commits, so a bad record never holds up its partition. Offsets are acknowledged only once
+ * the transaction has committed and the failed records were handed over, so a crash replays the
+ * whole batch and handlers must be idempotent.
+ * Metrics: kafka.batch.duration, kafka.batch.size, kafka.batch.failures (tagged by listener).
+ */
+@Slf4j
+@Component
+public class KafkaBatchProcessor {
+
+    private static final int EXCEPTION_HEADER_MAX_LENGTH = 1000;
+
+    private final TransactionalOperator batchTransaction;
+    private final TransactionalOperator recordTransaction;
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration timeout;
+
+    public KafkaBatchProcessor(ReactiveTransactionManager transactionManager,
+                               KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${comops.kafka.listener.batch.timeout:2m}") Duration timeout) {
+        this.batchTransaction = TransactionalOperator.create(transactionManager);
+        this.recordTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_NESTED));
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Runs {@code handler} on every record, in order, moves the failed ones to their first retry
+     * topic and acknowledges the batch.
+     */
+    public void process(KafkaEventHandler handler,
+                        List<ConsumerRecord<String, byte[]>> records,
+                        Acknowledgment acknowledgment) {
+        retry(apply(handler.listener(), records, record -> handler));
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Runs each record through the handler resolved for it, in one transaction when any of them is
+     * transactional; returns the failures.
+     */
+    public List<Failure> apply(String listener,
+                               List<ConsumerRecord<String, byte[]>> records,
+                               Function<ConsumerRecord<String, byte[]>, KafkaEventHandler> handlers) {
+        List<Failure> failures = new ArrayList<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Mono<Void> batch = Flux.fromIterable(records)
+                .concatMap(record -> Mono.defer(() -> handle(handlers.apply(record), record))
+                        .contextWrite(organizationContext(record))
+                        .onErrorResume(e -> {
+                            failures.add(new Failure(record, handlerName(handlers, record), e));
+                            log.warn("Échec du traitement de l'événement {} (partition={}, offset={}, key={}): {}",
+                                    record.topic(), record.partition(), record.offset(), record.key(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+        (transactional(records, handlers) ? batch.as(batchTransaction::transactional) : batch).block(timeout);
+
+        sample.stop(meterRegistry.timer("kafka.batch.duration", "listener", listener));
+        DistributionSummary.builder("kafka.batch.size")
+                .tag("listener", listener)
+                .register(meterRegistry)
+                .record(records.size());
+        if (!failures.isEmpty()) {
+            Counter.builder("kafka.batch.failures")
+                    .tag("listener", listener)
+                    .register(meterRegistry)
+                    .increment(failures.size());
+        }
+        log.debug("Lot {} traité: {} événements, {} en échec", listener, records.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * Publishes each failed record to its next retry topic, or to the dead-letter topic once the
+     * retries are exhausted, and waits for the broker to accept them.
+     */
+    public void retry(List<Failure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        CompletableFuture<?>[] sends = failures.stream()
+                .map(failure -> outboxKafkaTemplate.send(toRetryRecord(failure)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Impossible de transférer les événements en échec vers les topics de reprise", e);
+        }
+    }
+
+    private Mono<Void> handle(KafkaEventHandler handler, ConsumerRecord<String, byte[]> record) {
+        Mono<Void> handled = handler.handle(record);
+        return handler.transactional() ? handled.as(recordTransaction::transactional) : handled;
+    }
+
+    private static boolean transactional(List<ConsumerRecord<String, byte[]>> records,
+                                         Function<ConsumerRecord<String, byte[]>, KafkaEventHandler> handlers) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                if (handlers.apply(record).transactional()) {
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                // Sans consommateur, l'événement échouera à son traitement
+            }
+        }
+        return false;
+    }
+
+    private static ProducerRecord<String, byte[]> toRetryRecord(Failure failure) {
+        ConsumerRecord<String, byte[]> record = failure.record();
+        String originalTopic = Objects.requireNonNullElse(header(record, RetryTopics.ORIGINAL_TOPIC_HEADER), record.topic());
+        String previousAttempt = header(record, RetryTopics.ATTEMPT_HEADER);
+        int attempt = previousAttempt == null ? 1 : Integer.parseInt(previousAttempt) + 1;
+        String topic = RetryTopics.next(originalTopic, attempt);
+        ProducerRecord<String, byte[]> retry = new ProducerRecord<>(topic, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!RetryTopics.HEADERS.contains(header.key())) {
+                retry.headers().add(header);
+            }
+        }
+        addHeader(retry, RetryTopics.ORIGINAL_TOPIC_HEADER, originalTopic);
+        addHeader(retry, RetryTopics.LISTENER_HEADER, failure.listener());
+        addHeader(retry, RetryTopics.ATTEMPT_HEADER, String.valueOf(attempt));
+        addHeader(retry, RetryTopics.EXCEPTION_HEADER, exceptionSummary(failure.error()));
+        if (attempt <= RetryTopics.DELAYS.size()) {
+            long dueAt = System.currentTimeMillis() + RetryTopics.DELAYS.get(attempt - 1).toMillis();
+            addHeader(retry, RetryTopics.DUE_AT_HEADER, String.valueOf(dueAt));
+        } else {
+            log.error("Événement {} (key={}) placé en dead letter après {} tentatives: {}",
+                    originalTopic, record.key(), attempt, failure.error().getMessage());
+        }
+        return retry;
+    }
+
+    /**
+     * Value of a string header, null when absent.
+     */
+    public static String header(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Organization carried by the record header, if any.
+     */
+    public static UUID organizationId(ConsumerRecord<?, ?> record) {
+        String organizationId = header(record, OutboxRelay.ORGANIZATION_HEADER);
+        if (organizationId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(organizationId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void addHeader(ProducerRecord<String, byte[]> record, String name, String value) {
+        if (value != null) {
+            record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String exceptionSummary(Throwable error) {
+        String summary = error.getClass().getName() + ": " + error.getMessage();
+        return summary.length() > EXCEPTION_HEADER_MAX_LENGTH ? summary.substring(0, EXCEPTION_HEADER_MAX_LENGTH) : summary;
+    }
+
+    private static String handlerName(Function<ConsumerRecord<String, byte[]>, KafkaEventHandler> handlers,
+                                      ConsumerRecord<String, byte[]> record) {
+        try {
+            return handlers.apply(record).listener();
+        } catch (RuntimeException e) {
+            return header(record, RetryTopics.LISTENER_HEADER);
+        }
+    }
+
+    private static Function<Context, Context> organizationContext(ConsumerRecord<?, ?> record) {
+        UUID organizationId = organizationId(record);
+        return organizationId == null
+                ? Function.identity()
+                : ctx -> ctx.put(ReactiveOrganizationContext.ORGANIZATION_ID_KEY, organizationId);
+    }
+
+    /**
+     * A record whose handler failed, with the listener it belongs to.
+     */
+    public record Failure(ConsumerRecord<String, byte[]> record, String listener, Throwable error) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.account.modules.core.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import reactor.core.publisher.Mono;
+
+/**
+ * A Kafka consumer's per-record logic, run by {@link KafkaBatchProcessor} for its own batches and by
+ * {@link RetryTopicConsumer} for the records it failed.
+ */
+public interface KafkaEventHandler {
+
+    /**
+     * Name of the consumer, suffix of its group id; identifies it in retry headers and metrics.
+     */
+    String listener();
+
+    Mono<Void> handle(ConsumerRecord<String, byte[]> record);
+
+    /**
+     * Whether records are applied inside the batch transaction, each under its own savepoint.
+     * Handlers that write to the database opt in; the others (cache invalidation, logging) run
+     * without a transaction.
+     */
+    default boolean transactional() {
+        return false;
+    }
+}
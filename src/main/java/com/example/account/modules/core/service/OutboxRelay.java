@@ -0,0 +1,318 @@
+package com.example.account.modules.core.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the rows of {@code event_outbox} to Kafka, oldest first, every
+ * {@code comops.outbox.relay.poll-interval}.
+ *
+ * A batch is read, sent and deleted in one transaction: the sends are all issued before any
+ * acknowledgement is awaited, so the producer groups them into a few requests (delivery is at least
+ * once). A transaction-scoped advisory lock keeps a single relay active across instances, which
+ * preserves the per-key order. The sends may block on producer metadata or a full buffer, so they
+ * are issued on boundedElastic rather than on the R2DBC event loop.
+ *
+ * Rows whose send failed stay in the outbox with their attempt count and last error while the rest
+ * of the batch is deleted, so one bad row never stalls the others (it may be overtaken by later
+ * events of its entity). After {@code comops.outbox.relay.max-attempts} attempts a row is parked
+ * ({@code parked_at} set) and no longer relayed; clearing {@code parked_at} queues it again.
+ *
+ * Records keep the entity id as key but are partitioned on their organization (murmur2, as the
+ * default partitioner does for keys), so all events of a tenant are consumed in order; the
+ * organization also travels in the {@value #ORGANIZATION_HEADER} header.
+ * Metrics: outbox.lag (age of the oldest pending event, refreshed by every instance after each
+ * poll), outbox.published, outbox.failures, outbox.parked.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "comops.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements InitializingBean, DisposableBean {
+
+    public static final String ORGANIZATION_HEADER = "organizationId";
+
+    private static final long RELAY_LOCK = 0x6f7574626f78L;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(:lock) AS locked";
+
+    private static final String SELECT_SQL = """
+            SELECT id, topic, message_key, payload, payload_binary, payload_type, organization_id
+            FROM event_outbox
+            WHERE parked_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String FAILED_SQL = """
+            UPDATE event_outbox
+            SET attempts = attempts + 1,
+                last_error = :error,
+                parked_at = CASE WHEN attempts + 1 >= :maxAttempts THEN now() END
+            WHERE id = :id
+            RETURNING parked_at IS NOT NULL AS parked
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM event_outbox WHERE id = ANY(:ids)";
+
+    private static final String OLDEST_SQL = "SELECT created_at FROM event_outbox WHERE parked_at IS NULL ORDER BY id LIMIT 1";
+
+    private static final int ERROR_MAX_LENGTH = 1000;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final KafkaTemplate<String, byte[]> outboxKafkaTemplate;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+    private final Counter parked;
+    private Disposable subscription;
+
+    public OutboxRelay(DatabaseClient databaseClient,
+                       TransactionalOperator transactionalOperator,
+                       KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${comops.outbox.relay.poll-interval:500ms}") Duration pollInterval,
+                       @Value("${comops.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${comops.outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.published = Counter.builder("outbox.published")
+                .description("Événements de l'outbox publiés sur Kafka")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.failures")
+                .description("Envois ou lots de l'outbox en échec, republiés au passage suivant")
+                .register(meterRegistry);
+        this.parked = Counter.builder("outbox.parked")
+                .description("Événements de l'outbox écartés après trop d'envois en échec")
+                .register(meterRegistry);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Ancienneté du plus vieil événement en attente dans l'outbox")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = Flux.interval(pollInterval, pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> drain().then(refreshLag()))
+                .subscribe();
+    }
+
+    /**
+     * Relays batches until the outbox is empty or a send failed; returns how many events were
+     * published.
+     */
+    public Mono<Long> drain() {
+        return relayBatch()
+                .expand(count -> count == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum)
+                .onErrorResume(e -> {
+                    failures.increment();
+                    log.warn("Publication de l'outbox impossible, nouvel essai au prochain passage: {}", e.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    private Mono<Long> relayBatch() {
+        return databaseClient.sql(LOCK_SQL)
+                .bind("lock", RELAY_LOCK)
+                .map((row, metadata) -> Boolean.TRUE.equals(row.get("locked", Boolean.class)))
+                .one()
+                .flatMap(locked -> locked ? fetch().flatMap(this::relay) : Mono.just(0L))
+                .as(transactionalOperator::transactional)
+                .doOnNext(count -> published.increment(count));
+    }
+
+    private Mono<Long> relay(List<OutboxRecord> records) {
+        if (records.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return publish(records).flatMap(errors -> {
+            List<OutboxRecord> sent = new ArrayList<>();
+            List<Mono<Void>> failed = new ArrayList<>();
+            for (int i = 0; i < records.size(); i++) {
+                if (errors.get(i) == null) {
+                    sent.add(records.get(i));
+                } else {
+                    failed.add(failed(records.get(i), errors.get(i)));
+                }
+            }
+            return delete(sent)
+                    .then(Flux.concat(failed).then())
+                    .thenReturn((long) sent.size());
+        });
+    }
+
+    private Mono<List<OutboxRecord>> fetch() {
+        return databaseClient.sql(SELECT_SQL)
+                .bind("limit", batchSize)
+                .map((row, metadata) -> new OutboxRecord(
+                        row.get("id", Long.class),
+                        row.get("topic", String.class),
+                        row.get("message_key", String.class),
+                        row.get("payload", String.class),
+                        row.get("payload_binary", byte[].class),
+                        row.get("payload_type", String.class),
+                        row.get("organization_id", UUID.class)))
+                .all()
+                .collectList();
+    }
+
+    /**
+     * Sends the batch and returns, for each record in order, the error of its send or null. The
+     * partition count of each topic is looked up once per batch; it only changes when topics are
+     * extended, which the next batch picks up.
+     */
+    private Mono<List<Throwable>> publish(List<OutboxRecord> records) {
+        return Mono.fromCallable(() -> {
+                    Map<String, Integer> partitions = new HashMap<>();
+                    return records.stream().map(record -> send(record, partitions)).toList();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(sends -> Mono.fromFuture(CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)))
+                        .then(Mono.fromSupplier(() -> sends.stream().map(CompletableFuture::join).toList())));
+    }
+
+    private CompletableFuture<Throwable> send(OutboxRecord record, Map<String, Integer> partitions) {
+        try {
+            return outboxKafkaTemplate.send(toProducerRecord(record, partitions)).handle((result, error) -> error);
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(e);
+        }
+    }
+
+    /**
+     * Records a failed send on the row, parking it once it reached the maximum attempts.
+     */
+    private Mono<Void> failed(OutboxRecord record, Throwable error) {
+        failures.increment();
+        String message = error.getClass().getName() + ": " + error.getMessage();
+        return databaseClient.sql(FAILED_SQL)
+                .bind("error", message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message)
+                .bind("maxAttempts", maxAttempts)
+                .bind("id", record.id())
+                .map((row, metadata) -> Boolean.TRUE.equals(row.get("parked", Boolean.class)))
+                .one()
+                .doOnNext(isParked -> {
+                    if (isParked) {
+                        parked.increment();
+                        log.error("Événement {} de l'outbox (topic={}, key={}) écarté après {} envois en échec: {}",
+                                record.id(), record.topic(), record.key(), maxAttempts, message);
+                    } else {
+                        log.warn("Envoi de l'événement {} de l'outbox (topic={}) en échec, nouvel essai au prochain passage: {}",
+                                record.id(), record.topic(), message);
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * Sets outbox.lag from the oldest pending row; run by every instance, relaying or not.
+     */
+    private Mono<Void> refreshLag() {
+        return databaseClient.sql(OLDEST_SQL)
+                .map((row, metadata) -> row.get("created_at", OffsetDateTime.class).toInstant())
+                .one()
+                .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                .defaultIfEmpty(0L)
+                .doOnNext(lagMillis::set)
+                .then()
+                .onErrorResume(e -> {
+                    log.debug("Ancienneté de l'outbox indisponible: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> delete(List<OutboxRecord> records) {
+        if (records.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(DELETE_SQL)
+                .bind("ids", records.stream().map(OutboxRecord::id).toArray(Long[]::new))
+                .then();
+    }
+
+    /**
+     * Envelopes are sent as stored, flagged as Smile; JSON rows keep the wire format of the
+     * JsonSerializer, type header included.
+     */
+    private ProducerRecord<String, byte[]> toProducerRecord(OutboxRecord record, Map<String, Integer> partitions) {
+        byte[] value = record.payloadBinary() != null
+                ? record.payloadBinary()
+                : record.payload().getBytes(StandardCharsets.UTF_8);
+        ProducerRecord<String, byte[]> producerRecord = new ProducerRecord<>(record.topic(), partition(record, partitions),
+                record.key(), value);
+        if (record.payloadBinary() != null) {
+            producerRecord.headers().add(EventEnvelopeCodec.CONTENT_TYPE_HEADER,
+                    EventEnvelopeCodec.SMILE.getBytes(StandardCharsets.UTF_8));
+        } else if (record.payloadType() != null) {
+            producerRecord.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                    record.payloadType().getBytes(StandardCharsets.UTF_8));
+        }
+        if (record.organizationId() != null) {
+            producerRecord.headers().add(ORGANIZATION_HEADER,
+                    record.organizationId().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return producerRecord;
+    }
+
+    /**
+     * Partition of the record's organization, or null (key-based) for events raised outside a tenant.
+     */
+    private Integer partition(OutboxRecord record, Map<String, Integer> partitions) {
+        if (record.organizationId() == null) {
+            return null;
+        }
+        int count = partitions.computeIfAbsent(record.topic(), topic -> outboxKafkaTemplate.partitionsFor(topic).size());
+        byte[] organization = record.organizationId().toString().getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(organization)) % count;
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private record OutboxRecord(Long id, String topic, String key, String payload, byte[] payloadBinary,
+                                String payloadType, UUID organizationId) {
+    }
+}
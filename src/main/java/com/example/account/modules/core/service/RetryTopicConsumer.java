@@ -0,0 +1,88 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.config.KafkaTopicConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Consumes the retry topics of this service's consumers, one container per delay tier, and hands
+ * each record back to the {@link KafkaEventHandler} that failed it. The topics are listed
+ * explicitly ({@link KafkaTopicConfig#CONSUMED_TOPICS}): another service's retry topics share the
+ * naming scheme and must not be read here.
+ *
+ * A tier's records become due in the order they were written, so the batch is applied up to the
+ * first record not yet due, and the rest is nacked: the container pauses until that record is due
+ * and redelivers it. Only the retry container waits; the main topics keep flowing.
+ */
+@Slf4j
+@Service
+public class RetryTopicConsumer {
+
+    private final KafkaBatchProcessor batchProcessor;
+    private final Map<String, KafkaEventHandler> handlers;
+
+    public RetryTopicConsumer(KafkaBatchProcessor batchProcessor, List<KafkaEventHandler> handlers) {
+        this.batchProcessor = batchProcessor;
+        this.handlers = handlers.stream().collect(Collectors.toMap(KafkaEventHandler::listener, Function.identity()));
+    }
+
+    @KafkaListener(topics = "#{T(com.example.account.modules.core.config.KafkaTopicConfig).retryTopics(0)}", groupId = "${spring.kafka.consumer.group-id}-retry-1s")
+    public void consumeRetry1s(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        retry("retry-1s", records, acknowledgment);
+    }
+
+    @KafkaListener(topics = "#{T(com.example.account.modules.core.config.KafkaTopicConfig).retryTopics(1)}", groupId = "${spring.kafka.consumer.group-id}-retry-30s")
+    public void consumeRetry30s(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        retry("retry-30s", records, acknowledgment);
+    }
+
+    @KafkaListener(topics = "#{T(com.example.account.modules.core.config.KafkaTopicConfig).retryTopics(2)}", groupId = "${spring.kafka.consumer.group-id}-retry-5m")
+    public void consumeRetry5m(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        retry("retry-5m", records, acknowledgment);
+    }
+
+    private void retry(String tier, List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        long now = System.currentTimeMillis();
+        int due = 0;
+        while (due < records.size() && dueAt(records.get(due)) <= now) {
+            due++;
+        }
+        if (due > 0) {
+            batchProcessor.retry(batchProcessor.apply(tier, records.subList(0, due), this::handler));
+        }
+        if (due < records.size()) {
+            Duration wait = Duration.ofMillis(dueAt(records.get(due)) - now);
+            log.debug("Reprise {}: {} événements traités, attente de {} ms", tier, due, wait.toMillis());
+            acknowledgment.nack(due, wait);
+        } else {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private KafkaEventHandler handler(ConsumerRecord<String, byte[]> record) {
+        String listener = KafkaBatchProcessor.header(record, RetryTopics.LISTENER_HEADER);
+        KafkaEventHandler handler = listener == null ? null : handlers.get(listener);
+        if (handler == null) {
+            throw new IllegalStateException("Aucun consommateur pour l'événement en reprise: " + listener);
+        }
+        return handler;
+    }
+
+    private static long dueAt(ConsumerRecord<String, byte[]> record) {
+        String dueAt = KafkaBatchProcessor.header(record, RetryTopics.DUE_AT_HEADER);
+        try {
+            return dueAt == null ? 0 : Long.parseLong(dueAt);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.account.modules.core.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Naming and headers of the retry and dead-letter topics.
+ *
+ * A record that fails on {@code <topic>} moves to {@code <topic>-retry-1s}, then {@code -retry-30s},
+ * {@code -retry-5m}, and finally {@code <topic>-dlt}; each tier is consumed no earlier than its delay
+ * after the failure.
+ */
+public final class RetryTopics {
+
+    public static final List<Duration> DELAYS = List.of(Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5));
+    public static final String DLT_SUFFIX = "-dlt";
+
+    public static final String ORIGINAL_TOPIC_HEADER = "retry-original-topic";
+    public static final String LISTENER_HEADER = "retry-listener";
+    public static final String ATTEMPT_HEADER = "retry-attempt";
+    public static final String DUE_AT_HEADER = "retry-due-at";
+    public static final String EXCEPTION_HEADER = "retry-exception";
+    public static final List<String> HEADERS = List.of(ORIGINAL_TOPIC_HEADER, LISTENER_HEADER, ATTEMPT_HEADER,
+            DUE_AT_HEADER, EXCEPTION_HEADER);
+
+    private RetryTopics() {
+    }
+
+    public static String suffix(Duration delay) {
+        return delay.toMinutes() > 0 && delay.toSecondsPart() == 0
+                ? "-retry-" + delay.toMinutes() + "m"
+                : "-retry-" + delay.toSeconds() + "s";
+    }
+
+    /**
+     * Topic receiving a record of {@code originalTopic} after its {@code attempt}-th failure (1-based).
+     */
+    public static String next(String originalTopic, int attempt) {
+        return attempt <= DELAYS.size() ? originalTopic + suffix(DELAYS.get(attempt - 1)) : originalTopic + DLT_SUFFIX;
+    }
+
+    /**
+     * The retry tiers and the dead-letter topic of a topic.
+     */
+    public static List<String> of(String topic) {
+        List<String> topics = new ArrayList<>();
+        DELAYS.forEach(delay -> topics.add(topic + suffix(delay)));
+        topics.add(topic + DLT_SUFFIX);
+        return topics;
+    }
+}
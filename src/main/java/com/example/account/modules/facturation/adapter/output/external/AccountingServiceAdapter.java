@@ -7,7 +7,6 @@ import com.example.account.modules.facturation.dto.request.CreateInvoiceAccounti
 import com.example.account.modules.core.context.ReactiveOrganizationContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,16 +19,11 @@ import java.util.UUID;
 @Slf4j
 public class AccountingServiceAdapter implements AccountingServicePort {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient kernelWebClient;
     private final FactureRepositoryPort factureRepositoryPort;
 
-    @Value("${comops.kernel.ip}")
-    private String kernelIp;
-
     @Override
     public Mono<Void> sendFactureData(UUID factureId) {
-        String url = String.format("http://%s/api/accounting/invoices/sale", kernelIp);
-
         return factureRepositoryPort.findById(factureId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Facture does not exist")))
                 .flatMap(facture -> {
@@ -40,9 +34,9 @@ public class AccountingServiceAdapter implements AccountingServicePort {
 
                     return orgIdMono.flatMap(orgId -> {
                         CreateInvoiceAccountingRequest requestBody = new CreateInvoiceAccountingRequest(facture.getIdFacture(), "PENDING");
-                        return webClientBuilder.build()
+                        return kernelWebClient
                                 .post()
-                                .uri(url)
+                                .uri("/api/accounting/invoices/sale")
                                 .header("X-Tenant-ID", orgId.toString())
                                 .bodyValue(requestBody)
                                 .retrieve()
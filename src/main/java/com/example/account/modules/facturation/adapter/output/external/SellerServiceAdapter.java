@@ -1,5 +1,6 @@
 package com.example.account.modules.facturation.adapter.output.external;
 
+import com.example.account.modules.core.adapter.output.external.SingleFlight;
 import com.example.account.modules.facturation.domain.port.output.SellerServicePort;
 import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
 import com.example.account.modules.shared.dto.kernel.ApiResponseListThirdPartyResponse;
@@ -10,9 +11,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import com.example.account.modules.core.config.KernelWebClientConfig;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Service
@@ -20,23 +23,27 @@ import java.util.UUID;
 @Slf4j
 public class SellerServiceAdapter implements SellerServicePort {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient kernelWebClient;
+    private final SingleFlight singleFlight;
 
-    @Value("${comops.kernel.ip}")
-    private String kernelIp;
+    @Value("${comops.kernel.http.list-response-timeout:30s}")
+    private Duration listResponseTimeout;
 
+    /**
+     * Concurrent requests for the same organization share one Kernel call.
+     */
     @Override
     public Flux<SellerAuthResponse> getSellersByOrganization(UUID organizationId) {
-        String url = String.format(
-                "http://%s/api/sales-agents?organizationId=%s",
-                kernelIp,
-                organizationId
-        );
-        log.info("Requesting sales agents from: {}", url);
+        return singleFlight.executeMany("kernel.sales-agents", organizationId, () -> fetchSellers(organizationId));
+    }
+
+    private Flux<SellerAuthResponse> fetchSellers(UUID organizationId) {
+        log.info("Requesting sales agents for organization: {}", organizationId);
 
-        return webClientBuilder.build()
+        return kernelWebClient
                 .get()
-                .uri(url)
+                .uri("/api/sales-agents?organizationId={organizationId}", organizationId)
+                .httpRequest(KernelWebClientConfig.responseTimeout(listResponseTimeout))
                 .header("X-Organization-ID", organizationId.toString())
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, response -> {
@@ -1,11 +1,12 @@
 package com.example.account.modules.facturation.adapter.output.messaging;
 
-import com.example.account.modules.core.service.KafkaProducerService;
+import com.example.account.modules.core.service.EventOutboxService;
 import com.example.account.modules.facturation.domain.port.output.DevisEventPort;
 import com.example.account.modules.facturation.dto.response.DevisResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -14,7 +15,7 @@ import java.util.UUID;
 @Slf4j
 public class DevisKafkaProducer implements DevisEventPort {
 
-    private final KafkaProducerService kafkaProducerService;
+    private final EventOutboxService eventOutboxService;
 
     private static final String DEVIS_CREATED_TOPIC = "devis-created";
     private static final String DEVIS_UPDATED_TOPIC = "devis-updated";
@@ -22,26 +23,26 @@ public class DevisKafkaProducer implements DevisEventPort {
     private static final String DEVIS_ACCEPTED_TOPIC = "devis-accepted";
 
     @Override
-    public void publishDevisCreated(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisCreated(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis créé: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_CREATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_CREATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 
     @Override
-    public void publishDevisUpdated(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisUpdated(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis mis à jour: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_UPDATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_UPDATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 
     @Override
-    public void publishDevisDeleted(UUID devisId) {
+    public Mono<Void> publishDevisDeleted(UUID devisId) {
         log.info("Publication de l'événement devis supprimé: {}", devisId);
-        kafkaProducerService.sendMessage(DEVIS_DELETED_TOPIC, devisId.toString(), devisId);
+        return eventOutboxService.append(DEVIS_DELETED_TOPIC, devisId.toString(), devisId);
     }
 
     @Override
-    public void publishDevisAccepted(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisAccepted(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis accepté: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_ACCEPTED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_ACCEPTED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 }
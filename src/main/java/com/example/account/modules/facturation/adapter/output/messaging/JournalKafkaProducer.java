@@ -5,6 +5,7 @@ import com.example.account.modules.facturation.dto.response.JournalResponse;
 import com.example.account.modules.facturation.service.producer.JournalEventProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -15,17 +16,17 @@ public class JournalKafkaProducer implements JournalEventPort {
     private final JournalEventProducer originalProducer;
 
     @Override
-    public void publishJournalCreated(JournalResponse journal) {
-        originalProducer.publishJournalCreated(journal);
+    public Mono<Void> publishJournalCreated(JournalResponse journal) {
+        return originalProducer.publishJournalCreated(journal);
     }
 
     @Override
-    public void publishJournalUpdated(JournalResponse journal) {
-        originalProducer.publishJournalUpdated(journal);
+    public Mono<Void> publishJournalUpdated(JournalResponse journal) {
+        return originalProducer.publishJournalUpdated(journal);
     }
 
     @Override
-    public void publishJournalDeleted(UUID journalId) {
-        originalProducer.publishJournalDeleted(journalId);
+    public Mono<Void> publishJournalDeleted(UUID journalId) {
+        return originalProducer.publishJournalDeleted(journalId);
     }
 }
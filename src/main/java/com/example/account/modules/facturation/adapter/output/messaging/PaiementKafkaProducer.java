@@ -5,6 +5,7 @@ import com.example.account.modules.facturation.dto.response.PaiementResponse;
 import com.example.account.modules.facturation.service.producer.PaiementEventProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -15,17 +16,17 @@ public class PaiementKafkaProducer implements PaiementEventPort {
     private final PaiementEventProducer originalProducer;
 
     @Override
-    public void publishPaiementCreated(PaiementResponse paiement) {
-        originalProducer.publishPaiementCreated(paiement);
+    public Mono<Void> publishPaiementCreated(PaiementResponse paiement) {
+        return originalProducer.publishPaiementCreated(paiement);
     }
 
     @Override
-    public void publishPaiementUpdated(PaiementResponse paiement) {
-        originalProducer.publishPaiementUpdated(paiement);
+    public Mono<Void> publishPaiementUpdated(PaiementResponse paiement) {
+        return originalProducer.publishPaiementUpdated(paiement);
     }
 
     @Override
-    public void publishPaiementDeleted(UUID paiementId) {
-        originalProducer.publishPaiementDeleted(paiementId);
+    public Mono<Void> publishPaiementDeleted(UUID paiementId) {
+        return originalProducer.publishPaiementDeleted(paiementId);
     }
 }
@@ -5,6 +5,7 @@ import com.example.account.modules.facturation.dto.response.TaxeResponse;
 import com.example.account.modules.facturation.service.producer.TaxeEventProducer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -15,17 +16,17 @@ public class TaxeKafkaProducer implements TaxeEventPort {
     private final TaxeEventProducer originalProducer;
 
     @Override
-    public void publishTaxeCreated(TaxeResponse taxe) {
-        originalProducer.publishTaxeCreated(taxe);
+    public Mono<Void> publishTaxeCreated(TaxeResponse taxe) {
+        return originalProducer.publishTaxeCreated(taxe);
     }
 
     @Override
-    public void publishTaxeUpdated(TaxeResponse taxe) {
-        originalProducer.publishTaxeUpdated(taxe);
+    public Mono<Void> publishTaxeUpdated(TaxeResponse taxe) {
+        return originalProducer.publishTaxeUpdated(taxe);
     }
 
     @Override
-    public void publishTaxeDeleted(UUID taxeId) {
-        originalProducer.publishTaxeDeleted(taxeId);
+    public Mono<Void> publishTaxeDeleted(UUID taxeId) {
+        return originalProducer.publishTaxeDeleted(taxeId);
     }
 }
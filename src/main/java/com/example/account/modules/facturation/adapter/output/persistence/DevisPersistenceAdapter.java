@@ -1,5 +1,10 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.KeysetQuery;
+import com.example.account.modules.core.adapter.output.persistence.SummaryProjection;
+import com.example.account.modules.core.adapter.output.persistence.TenantScope;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.DevisPersistenceMapper;
 import com.example.account.modules.facturation.domain.model.Devis;
 import com.example.account.modules.facturation.domain.port.output.DevisRepositoryPort;
@@ -7,11 +12,14 @@ import com.example.account.modules.facturation.model.enums.StatutDevis;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -19,48 +27,50 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class DevisPersistenceAdapter implements DevisRepositoryPort {
 
+    private static final Set<String> LINE_PROPERTIES = Set.of("lignesDevis");
+
     private final DevisR2dbcRepository repository;
     private final DevisPersistenceMapper mapper;
     private final R2dbcEntityTemplate entityTemplate;
 
     @Override
     public Mono<Devis> findById(UUID id) {
-        return repository.findById(id).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndIdDevis(orgId, id)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Devis> findByNumeroDevis(String numeroDevis) {
-        return repository.findByNumeroDevis(numeroDevis).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndNumeroDevis(orgId, numeroDevis)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Devis> findByStatut(StatutDevis statut) {
-        return repository.findByStatut(statut).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndStatut(orgId, statut)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Boolean> existsByNumeroDevis(String numeroDevis) {
-        return repository.existsByNumeroDevis(numeroDevis);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndNumeroDevis(orgId, numeroDevis));
     }
 
     @Override
     public Flux<Devis> findByIdClient(UUID idClient) {
-        return repository.findByIdClient(idClient).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByIdClient(orgId, idClient)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Devis> findExpiredDevis(LocalDate date) {
-        return repository.findExpiredDevis(date).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findExpiredDevis(orgId, date)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Devis> findByDateCreationBetween(LocalDate start, LocalDate end) {
-        return repository.findByDateCreationBetween(start, end).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndDateCreationBetween(orgId, start, end)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Devis> findByOrganizationId(UUID organizationId) {
-        return repository.findByOrganizationId(organizationId).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationId(TenantScope.owner(organizationId, orgId))).map(mapper::toDomain);
     }
 
     @Override
@@ -69,25 +79,76 @@ public class DevisPersistenceAdapter implements DevisRepositoryPort {
         // but typically repo.save() works if id is present and it's new, wait, R2DBC can be tricky.
         // The old service used entityTemplate.insert(devis) for new and repo.save(devis) for update.
         // Let's abstract that inside here if idDevis is null or we can just use entityTemplate for insert.
-        return repository.save(mapper.toEntity(devis)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.save(scoped(devis, orgId))).map(mapper::toDomain);
     }
     
     public Mono<Devis> insert(Devis devis) {
-        return entityTemplate.insert(mapper.toEntity(devis)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> entityTemplate.insert(scoped(devis, orgId))).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Void> deleteById(UUID id) {
-        return repository.deleteById(id);
+        return TenantScope.mono(orgId -> repository.deleteByOrganizationIdAndIdDevis(orgId, id)).then();
     }
 
     @Override
     public Mono<Boolean> existsById(UUID id) {
-        return repository.existsById(id);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndIdDevis(orgId, id));
     }
 
     @Override
     public Flux<Devis> findAll() {
-        return repository.findAll().map(mapper::toDomain);
+        return TenantScope.flux(repository::findByOrganizationId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Devis> findAllSummaries() {
+        return summaries(Criteria.empty());
+    }
+
+    @Override
+    public Flux<Devis> findSummariesByIdClient(UUID idClient) {
+        return summaries(Criteria.where("idClient").is(idClient));
+    }
+
+    @Override
+    public Flux<Devis> findSummariesByStatut(StatutDevis statut) {
+        return summaries(Criteria.where("statut").is(statut));
+    }
+
+    @Override
+    public Flux<Devis> findSummariesByDateCreationBetween(LocalDate start, LocalDate end) {
+        return summaries(Criteria.where("dateCreation").between(start.atStartOfDay(), end.atStartOfDay()));
+    }
+
+    /**
+     * Same filters as the repository queries above, without the lignes_devis column.
+     */
+    private Flux<Devis> summaries(Criteria filter) {
+        return TenantScope.flux(orgId -> SummaryProjection.select(entityTemplate, DevisPersistenceEntity.class,
+                scope(orgId, filter), LINE_PROPERTIES)).map(mapper::toDomain);
+    }
+
+    private static Criteria scope(UUID organizationId, Criteria filter) {
+        Criteria tenant = Criteria.where("organizationId").is(organizationId);
+        return filter.isEmpty() ? tenant : tenant.and(filter);
+    }
+
+    @Override
+    public Mono<KeysetPage<Devis>> findPage(UUID organizationId, KeysetCursor after, int limit) {
+        return TenantScope.mono(orgId -> {
+            UUID owner = TenantScope.owner(organizationId, orgId);
+            Query query = KeysetQuery.after(owner, after, "dateCreation", "idDevis", limit);
+            return KeysetQuery.toPage(entityTemplate.select(query, DevisPersistenceEntity.class),
+                    owner, limit,
+                    DevisPersistenceEntity::getDateCreation, DevisPersistenceEntity::getIdDevis,
+                    mapper::toDomain);
+        });
+    }
+
+    private DevisPersistenceEntity scoped(Devis devis, UUID organizationId) {
+        DevisPersistenceEntity entity = mapper.toEntity(devis);
+        entity.setOrganizationId(TenantScope.owner(entity.getOrganizationId(), organizationId));
+        return entity;
     }
 }
@@ -1,6 +1,7 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
 import com.example.account.modules.facturation.model.enums.StatutDevis;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -10,19 +11,30 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Every query is scoped to one organization (leading organization_id predicate).
+ * Call through {@link com.example.account.modules.core.adapter.output.persistence.TenantScope}.
+ */
 @Repository
 public interface DevisR2dbcRepository extends R2dbcRepository<DevisPersistenceEntity, UUID> {
-    Mono<DevisPersistenceEntity> findByNumeroDevis(String numeroDevis);
-    Flux<DevisPersistenceEntity> findByStatut(StatutDevis statut);
-    Mono<Boolean> existsByNumeroDevis(String numeroDevis);
+    Mono<DevisPersistenceEntity> findByOrganizationIdAndIdDevis(UUID organizationId, UUID idDevis);
+    Mono<Boolean> existsByOrganizationIdAndIdDevis(UUID organizationId, UUID idDevis);
+
+    @Modifying
+    @Query("DELETE FROM devis WHERE organization_id = :organizationId AND id_devis = :idDevis")
+    Mono<Integer> deleteByOrganizationIdAndIdDevis(UUID organizationId, UUID idDevis);
+
+    Mono<DevisPersistenceEntity> findByOrganizationIdAndNumeroDevis(UUID organizationId, String numeroDevis);
+    Flux<DevisPersistenceEntity> findByOrganizationIdAndStatut(UUID organizationId, StatutDevis statut);
+    Mono<Boolean> existsByOrganizationIdAndNumeroDevis(UUID organizationId, String numeroDevis);
     
-    @Query("SELECT * FROM devis WHERE id_client = :idClient")
-    Flux<DevisPersistenceEntity> findByIdClient(UUID idClient);
+    @Query("SELECT * FROM devis WHERE organization_id = :organizationId AND id_client = :idClient")
+    Flux<DevisPersistenceEntity> findByIdClient(UUID organizationId, UUID idClient);
 
-    @Query("SELECT * FROM devis WHERE date_expiration < :date AND statut != 'EXPIRE'")
-    Flux<DevisPersistenceEntity> findExpiredDevis(LocalDate date);
+    @Query("SELECT * FROM devis WHERE organization_id = :organizationId AND date_expiration < :date AND statut != 'EXPIRE'")
+    Flux<DevisPersistenceEntity> findExpiredDevis(UUID organizationId, LocalDate date);
 
-    Flux<DevisPersistenceEntity> findByDateCreationBetween(LocalDate start, LocalDate end);
+    Flux<DevisPersistenceEntity> findByOrganizationIdAndDateCreationBetween(UUID organizationId, LocalDate start, LocalDate end);
     
     Flux<DevisPersistenceEntity> findByOrganizationId(UUID organizationId);
 }
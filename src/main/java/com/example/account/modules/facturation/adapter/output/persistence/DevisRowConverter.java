@@ -0,0 +1,82 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import com.example.account.modules.core.adapter.output.persistence.RowValues;
+import com.example.account.modules.core.config.JsonbLineCodecs;
+import com.example.account.modules.facturation.domain.model.LigneDevis;
+import com.example.account.modules.facturation.model.enums.StatutDevis;
+import com.example.account.modules.facturation.model.enums.TypePaiementDevis;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Direct Row to {@link DevisPersistenceEntity} mapping, replacing the reflective
+ * MappingR2dbcConverter path for every devis read. Keep in sync with the entity's columns.
+ */
+@ReadingConverter
+public class DevisRowConverter implements Converter<Row, DevisPersistenceEntity> {
+
+    private final JsonbLineCodecs codecs;
+
+    public DevisRowConverter(JsonbLineCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DevisPersistenceEntity convert(Row row) {
+        RowValues r = RowValues.of(row);
+        DevisPersistenceEntity e = new DevisPersistenceEntity();
+        e.setIdDevis(r.get("id_devis", UUID.class));
+        e.setNumeroDevis(r.get("numero_devis", String.class));
+        e.setDateCreation(r.get("date_creation", LocalDateTime.class));
+        e.setDateValidite(r.get("date_validite", LocalDateTime.class));
+        e.setStatut(r.getEnum("statut", StatutDevis.class));
+        Json lignes = r.get("lignes_devis", Json.class);
+        if (lignes != null) {
+            e.setLignesDevis((List<LigneDevis>) codecs.decode(lignes, LigneDevis.class));
+        }
+        e.setMontantTotal(r.get("montant_total", BigDecimal.class));
+        e.setIdClient(r.get("id_client", UUID.class));
+        e.setNomClient(r.get("nom_client", String.class));
+        e.setAdresseClient(r.get("adresse_client", String.class));
+        e.setEmailClient(r.get("email_client", String.class));
+        e.setTelephoneClient(r.get("telephone_client", String.class));
+        e.setMontantHT(r.get("montant_ht", BigDecimal.class));
+        e.setMontantTVA(r.get("montant_tva", BigDecimal.class));
+        e.setMontantTTC(r.get("montant_ttc", BigDecimal.class));
+        e.setDevise(r.get("devise", String.class));
+        e.setTauxChange(r.get("taux_change", BigDecimal.class, e.getTauxChange()));
+        e.setConditionsPaiement(r.get("conditions_paiement", String.class));
+        e.setNotes(r.get("notes", String.class));
+        e.setReferenceExterne(r.get("reference_externe", String.class));
+        e.setEnvoyeParEmail(r.get("envoye_par_email", Boolean.class, e.getEnvoyeParEmail()));
+        e.setDateEnvoiEmail(r.get("date_envoi_email", LocalDateTime.class));
+        e.setDateAcceptation(r.get("date_acceptation", LocalDateTime.class));
+        e.setDateRefus(r.get("date_refus", LocalDateTime.class));
+        e.setMotifRefus(r.get("motif_refus", String.class));
+        e.setIdFactureConvertie(r.get("id_facture_convertie", UUID.class));
+        e.setRemiseGlobalePourcentage(r.get("remise_globale_pourcentage", BigDecimal.class, e.getRemiseGlobalePourcentage()));
+        e.setRemiseGlobaleMontant(r.get("remise_globale_montant", BigDecimal.class, e.getRemiseGlobaleMontant()));
+        e.setValiditeOffreJours(r.get("validite_offre_jours", Integer.class, e.getValiditeOffreJours()));
+        e.setApplyVat(r.get("apply_vat", Boolean.class, e.getApplyVat()));
+        e.setDateSysteme(r.get("date_systeme", LocalDateTime.class));
+        e.setModeReglement(r.getEnum("mode_reglement", TypePaiementDevis.class));
+        e.setNosRef(r.get("nos_ref", String.class));
+        e.setVosRef(r.get("vos_ref", String.class));
+        e.setNbreEcheance(r.get("nbre_echeance", Integer.class));
+        e.setReferalClientId(r.get("referal_client_id", UUID.class));
+        e.setFinalAmount(r.get("final_amount", BigDecimal.class));
+        e.setCreatedBy(r.get("created_by", UUID.class));
+        e.setUpdatedAt(r.get("updated_at", LocalDateTime.class));
+        e.setOrganizationId(r.get("organization_id", UUID.class));
+        e.setVersion(r.get("version", Long.class, e.getVersion()));
+        return e;
+    }
+}
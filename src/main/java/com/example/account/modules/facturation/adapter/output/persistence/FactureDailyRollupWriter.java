@@ -0,0 +1,104 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Maintains facture_daily_rollup, one row per (organization, day, devise, etat).
+ *
+ * Writes are signed deltas computed in SQL from the invoice row itself: the adapter retracts the
+ * stored row before an update or delete and adds it back after an insert or update, inside the
+ * same transaction. Deltas commute, so concurrent writers on the same day stay consistent; the
+ * row lock taken by {@link #retract} serializes writers of the same invoice.
+ */
+@Component
+@RequiredArgsConstructor
+public class FactureDailyRollupWriter {
+
+    private static final String LOCK_SQL = """
+            SELECT id_facture FROM factures
+            WHERE organization_id = :organizationId AND id_facture = :idFacture
+            FOR UPDATE
+            """;
+
+    private static final String APPLY_SQL = """
+            INSERT INTO facture_daily_rollup AS r
+                (organization_id, day, devise, etat, count, sum_ht, sum_tva, sum_ttc, sum_total, sum_restant)
+            SELECT organization_id, CAST(date_facturation AS DATE), COALESCE(devise, ''), COALESCE(etat, ''),
+                   :sign, :sign * COALESCE(montant_ht, 0), :sign * COALESCE(montant_tva, 0),
+                   :sign * COALESCE(montant_ttc, 0), :sign * COALESCE(montant_total, 0),
+                   :sign * COALESCE(montant_restant, 0)
+            FROM factures
+            WHERE organization_id = :organizationId AND id_facture = :idFacture
+              AND date_facturation IS NOT NULL
+            ON CONFLICT (organization_id, day, devise, etat) DO UPDATE SET
+                count = r.count + EXCLUDED.count,
+                sum_ht = r.sum_ht + EXCLUDED.sum_ht,
+                sum_tva = r.sum_tva + EXCLUDED.sum_tva,
+                sum_ttc = r.sum_ttc + EXCLUDED.sum_ttc,
+                sum_total = r.sum_total + EXCLUDED.sum_total,
+                sum_restant = r.sum_restant + EXCLUDED.sum_restant
+            """;
+
+    private static final String CLEAR_SQL = "DELETE FROM facture_daily_rollup WHERE organization_id = :organizationId";
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO facture_daily_rollup
+                (organization_id, day, devise, etat, count, sum_ht, sum_tva, sum_ttc, sum_total, sum_restant)
+            SELECT organization_id, CAST(date_facturation AS DATE), COALESCE(devise, ''), COALESCE(etat, ''),
+                   COUNT(*), SUM(COALESCE(montant_ht, 0)), SUM(COALESCE(montant_tva, 0)),
+                   SUM(COALESCE(montant_ttc, 0)), SUM(COALESCE(montant_total, 0)), SUM(COALESCE(montant_restant, 0))
+            FROM factures
+            WHERE organization_id = :organizationId AND date_facturation IS NOT NULL
+            GROUP BY 1, 2, 3, 4
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Locks the stored invoice row and removes its contribution. No-op for an invoice not yet stored.
+     */
+    public Mono<Void> retract(UUID organizationId, UUID idFacture) {
+        if (idFacture == null) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(LOCK_SQL)
+                .bind("organizationId", organizationId)
+                .bind("idFacture", idFacture)
+                .fetch().all()
+                .then(apply(organizationId, idFacture, -1));
+    }
+
+    /**
+     * Adds the contribution of the stored invoice row.
+     */
+    public Mono<Void> add(UUID organizationId, UUID idFacture) {
+        return apply(organizationId, idFacture, 1);
+    }
+
+    /**
+     * Recomputes every rollup row of the organization from the invoice table.
+     * Must run inside a transaction; returns the number of (day, devise, etat) rows written.
+     */
+    public Mono<Long> rebuild(UUID organizationId) {
+        return databaseClient.sql(CLEAR_SQL)
+                .bind("organizationId", organizationId)
+                .fetch().rowsUpdated()
+                .then(databaseClient.sql(REBUILD_SQL)
+                        .bind("organizationId", organizationId)
+                        .fetch().rowsUpdated());
+    }
+
+    private Mono<Void> apply(UUID organizationId, UUID idFacture, int sign) {
+        return databaseClient.sql(APPLY_SQL)
+                .bind("organizationId", organizationId)
+                .bind("idFacture", idFacture)
+                .bind("sign", sign)
+                .fetch().rowsUpdated()
+                .then();
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.KeysetQuery;
+import com.example.account.modules.core.adapter.output.persistence.SummaryProjection;
+import com.example.account.modules.core.adapter.output.persistence.TenantScope;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.FacturePersistenceMapper;
 import com.example.account.modules.facturation.domain.model.Facture;
 import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
@@ -7,12 +12,16 @@ import com.example.account.modules.facturation.model.enums.StatutFacture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -20,147 +29,227 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FacturePersistenceAdapter implements FactureRepositoryPort {
 
+    private static final Set<String> LINE_PROPERTIES = Set.of("lignesFacture");
+
     private final FactureR2dbcRepository repository;
     private final FacturePersistenceMapper mapper;
     private final R2dbcEntityTemplate entityTemplate;
+    private final FactureDailyRollupWriter rollupWriter;
+    private final TransactionalOperator transactionalOperator;
 
     @Override
     public Mono<Facture> findById(UUID id) {
-        return repository.findById(id).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndIdFacture(orgId, id)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Facture> findByNumeroFacture(String numeroFacture) {
-        return repository.findByNumeroFacture(numeroFacture).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndNumeroFacture(orgId, numeroFacture)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByIdClient(UUID idClient) {
-        return repository.findByIdClient(idClient).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndIdClient(orgId, idClient)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByEtat(StatutFacture etat) {
-        return repository.findByEtat(etat).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndEtat(orgId, etat)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByType(String type) {
-        return repository.findByType(type).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndType(orgId, type)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByClientAndEtat(UUID idClient, StatutFacture etat) {
-        return repository.findByClientAndEtat(idClient, etat).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByClientAndEtat(orgId, idClient, etat)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByDateFacturationBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.findByDateFacturationBetween(startDate, endDate).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByDateFacturationBetween(orgId, startDate, endDate.plusDays(1))).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByDateEcheanceBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.findByDateEcheanceBetween(startDate, endDate).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByDateEcheanceBetween(orgId, startDate, endDate)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findOverdueFactures(LocalDate currentDate) {
-        return repository.findOverdueFactures(currentDate).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findOverdueFactures(orgId, currentDate)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByMontantTotalBetween(BigDecimal minAmount, BigDecimal maxAmount) {
-        return repository.findByMontantTotalBetween(minAmount, maxAmount).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByMontantTotalBetween(orgId, minAmount, maxAmount)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findUnpaidFactures() {
-        return repository.findUnpaidFactures().map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findUnpaidFactures(orgId)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByDevise(String devise) {
-        return repository.findByDevise(devise).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByDevise(orgId, devise)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Facture> findByEnvoyeParEmail(Boolean envoyeParEmail) {
-        return repository.findByEnvoyeParEmail(envoyeParEmail).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByEnvoyeParEmail(orgId, envoyeParEmail)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Long> countByEtat(StatutFacture etat) {
-        return repository.countByEtat(etat);
+        return TenantScope.mono(orgId -> repository.countByEtat(orgId, etat));
     }
 
     @Override
     public Mono<Long> countByIdClient(UUID idClient) {
-        return repository.countByIdClient(idClient);
+        return TenantScope.mono(orgId -> repository.countByIdClient(orgId, idClient));
     }
 
     @Override
     public Mono<Long> countByDateFacturationBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.countByDateFacturationBetween(startDate, endDate);
+        return TenantScope.mono(orgId -> repository.countByDateFacturationBetween(orgId, startDate, endDate));
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByDateBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.sumMontantByDateBetween(startDate, endDate);
+        return TenantScope.mono(orgId -> repository.sumMontantByDateBetween(orgId, startDate, endDate));
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByEtat(StatutFacture etat) {
-        return repository.sumMontantByEtat(etat);
+        return TenantScope.mono(orgId -> repository.sumMontantByEtat(orgId, etat));
     }
 
     @Override
     public Mono<Long> countByStatut(String statut) {
-        return repository.countByStatut(statut);
+        return TenantScope.mono(orgId -> repository.countByStatut(orgId, statut));
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByStatut(String statut) {
-        return repository.sumMontantByStatut(statut);
+        return TenantScope.mono(orgId -> repository.sumMontantByStatut(orgId, statut));
     }
 
     @Override
     public Mono<Long> countByDateBetween(LocalDate startDate, LocalDate endDate) {
-        return repository.countByDateBetween(startDate, endDate);
+        return TenantScope.mono(orgId -> repository.countByDateBetween(orgId, startDate, endDate));
     }
 
     @Override
     public Mono<Boolean> existsByNumeroFacture(String numeroFacture) {
-        return repository.existsByNumeroFacture(numeroFacture);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndNumeroFacture(orgId, numeroFacture));
     }
 
     @Override
     public Mono<Facture> save(Facture facture) {
-        return repository.save(mapper.toEntity(facture)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> {
+                    FacturePersistenceEntity entity = scoped(facture, orgId);
+                    return rollupWriter.retract(orgId, entity.getIdFacture())
+                            .then(repository.save(entity))
+                            .flatMap(saved -> rollupWriter.add(orgId, saved.getIdFacture()).thenReturn(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .map(mapper::toDomain);
     }
 
     @Override
     public Mono<Facture> insert(Facture facture) {
-        return entityTemplate.insert(mapper.toEntity(facture)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> entityTemplate.insert(scoped(facture, orgId))
+                        .flatMap(saved -> rollupWriter.add(orgId, saved.getIdFacture()).thenReturn(saved)))
+                .as(transactionalOperator::transactional)
+                .map(mapper::toDomain);
+    }
+
+    private FacturePersistenceEntity scoped(Facture facture, UUID organizationId) {
+        FacturePersistenceEntity entity = mapper.toEntity(facture);
+        entity.setOrganizationId(TenantScope.owner(entity.getOrganizationId(), organizationId));
+        return entity;
     }
 
     @Override
     public Mono<Void> deleteById(UUID id) {
-        return repository.deleteById(id);
+        return TenantScope.mono(orgId -> rollupWriter.retract(orgId, id)
+                        .then(repository.deleteByOrganizationIdAndIdFacture(orgId, id)))
+                .as(transactionalOperator::transactional)
+                .then();
     }
 
     @Override
     public Mono<Boolean> existsById(UUID id) {
-        return repository.existsById(id);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndIdFacture(orgId, id));
     }
 
     @Override
     public Flux<Facture> findAll() {
-        return repository.findAll().map(mapper::toDomain);
+        return TenantScope.flux(repository::findByOrganizationId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Facture> findAllSummaries() {
+        return summaries(Criteria.empty());
+    }
+
+    @Override
+    public Flux<Facture> findSummariesByIdClient(UUID idClient) {
+        return summaries(Criteria.where("idClient").is(idClient));
+    }
+
+    @Override
+    public Flux<Facture> findSummariesByEtat(StatutFacture etat) {
+        return summaries(Criteria.where("etat").is(etat));
+    }
+
+    @Override
+    public Flux<Facture> findOverdueSummaries(LocalDate currentDate) {
+        return summaries(Criteria.where("dateEcheance").lessThan(currentDate.atStartOfDay())
+                .and("etat").in(StatutFacture.ENVOYE, StatutFacture.PARTIELLEMENT_PAYE));
+    }
+
+    @Override
+    public Flux<Facture> findUnpaidSummaries() {
+        return summaries(Criteria.where("montantRestant").greaterThan(BigDecimal.ZERO));
+    }
+
+    @Override
+    public Flux<Facture> findSummariesByDateFacturationBetween(LocalDate startDate, LocalDate endDate) {
+        return summaries(Criteria.where("dateFacturation").greaterThanOrEquals(startDate.atStartOfDay())
+                .and("dateFacturation").lessThan(endDate.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * Same filters as the repository queries above, without the lignes_facture column.
+     */
+    private Flux<Facture> summaries(Criteria filter) {
+        return TenantScope.flux(orgId -> SummaryProjection.select(entityTemplate, FacturePersistenceEntity.class,
+                scope(orgId, filter), LINE_PROPERTIES)).map(mapper::toDomain);
+    }
+
+    private static Criteria scope(UUID organizationId, Criteria filter) {
+        Criteria tenant = Criteria.where("organizationId").is(organizationId);
+        return filter.isEmpty() ? tenant : tenant.and(filter);
+    }
+
+    @Override
+    public Mono<KeysetPage<Facture>> findPage(UUID organizationId, KeysetCursor after, int limit) {
+        return TenantScope.mono(orgId -> {
+            UUID owner = TenantScope.owner(organizationId, orgId);
+            Query query = KeysetQuery.after(owner, after, "createdAt", "idFacture", limit);
+            return KeysetQuery.toPage(entityTemplate.select(query, FacturePersistenceEntity.class),
+                    owner, limit,
+                    FacturePersistenceEntity::getCreatedAt, FacturePersistenceEntity::getIdFacture,
+                    mapper::toDomain);
+        });
     }
 
     @Override
     public Mono<Long> count() {
-        return repository.count();
+        return TenantScope.mono(repository::countByOrganizationId);
     }
 }
@@ -1,15 +1,18 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.SummaryProjection;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.FactureProformaPersistenceMapper;
 import com.example.account.modules.facturation.domain.model.FactureProforma;
 import com.example.account.modules.facturation.domain.port.output.FactureProformaRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -17,6 +20,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class FactureProformaPersistenceAdapter implements FactureProformaRepositoryPort {
 
+    private static final Set<String> LINE_PROPERTIES = Set.of("lignesFactureProforma");
+
     private final FactureProformaR2dbcRepository repository;
     private final FactureProformaPersistenceMapper mapper;
     private final R2dbcEntityTemplate entityTemplate;
@@ -65,4 +70,16 @@ public class FactureProformaPersistenceAdapter implements FactureProformaReposit
     public Flux<FactureProforma> findAll() {
         return repository.findAll().map(mapper::toDomain);
     }
+
+    @Override
+    public Flux<FactureProforma> findAllSummaries() {
+        return SummaryProjection.select(entityTemplate, FactureProformaPersistenceEntity.class, Criteria.empty(), LINE_PROPERTIES)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<FactureProforma> findSummariesByIdClient(UUID idClient) {
+        return SummaryProjection.select(entityTemplate, FactureProformaPersistenceEntity.class, Criteria.where("idClient").is(idClient), LINE_PROPERTIES)
+                .map(mapper::toDomain);
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
 import com.example.account.modules.facturation.model.enums.StatutFacture;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -11,64 +12,85 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Every query is scoped to one organization (leading organization_id predicate).
+ * Call through {@link com.example.account.modules.core.adapter.output.persistence.TenantScope}.
+ * Period counts and sums read the facture_daily_rollup table (one row per day, devise and etat)
+ * maintained by {@link FactureDailyRollupWriter}.
+ */
 @Repository
 public interface FactureR2dbcRepository extends R2dbcRepository<FacturePersistenceEntity, UUID> {
-    
-    Mono<FacturePersistenceEntity> findByNumeroFacture(String numeroFacture);
-    
-    Flux<FacturePersistenceEntity> findByIdClient(UUID idClient);
-    
-    Flux<FacturePersistenceEntity> findByEtat(StatutFacture etat);
-    
-    Flux<FacturePersistenceEntity> findByType(String type);
-    
-    @Query("SELECT * FROM factures WHERE id_client = :idClient AND etat = :etat")
-    Flux<FacturePersistenceEntity> findByClientAndEtat(UUID idClient, StatutFacture etat);
-    
-    @Query("SELECT * FROM factures WHERE date_facturation BETWEEN :startDate AND :endDate")
-    Flux<FacturePersistenceEntity> findByDateFacturationBetween(LocalDate startDate, LocalDate endDate);
-    
-    @Query("SELECT * FROM factures WHERE date_echeance BETWEEN :startDate AND :endDate")
-    Flux<FacturePersistenceEntity> findByDateEcheanceBetween(LocalDate startDate, LocalDate endDate);
-    
-    @Query("SELECT * FROM factures WHERE date_echeance < :currentDate AND (etat = 'ENVOYE' OR etat = 'PARTIELLEMENT_PAYE')")
-    Flux<FacturePersistenceEntity> findOverdueFactures(LocalDate currentDate);
-    
-    @Query("SELECT * FROM factures WHERE montant_total BETWEEN :minAmount AND :maxAmount")
-    Flux<FacturePersistenceEntity> findByMontantTotalBetween(BigDecimal minAmount, BigDecimal maxAmount);
-    
-    @Query("SELECT * FROM factures WHERE montant_restant > 0")
-    Flux<FacturePersistenceEntity> findUnpaidFactures();
-    
-    @Query("SELECT * FROM factures WHERE devise = :devise")
-    Flux<FacturePersistenceEntity> findByDevise(String devise);
-    
-    @Query("SELECT * FROM factures WHERE envoye_par_email = :envoyeParEmail")
-    Flux<FacturePersistenceEntity> findByEnvoyeParEmail(Boolean envoyeParEmail);
-    
-    @Query("SELECT COUNT(*) FROM factures WHERE etat = :etat")
-    Mono<Long> countByEtat(StatutFacture etat);
-    
-    @Query("SELECT COUNT(*) FROM factures WHERE id_client = :idClient")
-    Mono<Long> countByIdClient(UUID idClient);
-    
-    @Query("SELECT COUNT(*) FROM factures WHERE date_facturation BETWEEN :startDate AND :endDate")
-    Mono<Long> countByDateFacturationBetween(LocalDate startDate, LocalDate endDate);
-    
-    @Query("SELECT SUM(montant_total) FROM factures WHERE date_facturation BETWEEN :startDate AND :endDate")
-    Mono<BigDecimal> sumMontantByDateBetween(LocalDate startDate, LocalDate endDate);
-    
-    @Query("SELECT SUM(montant_total) FROM factures WHERE etat = :etat")
-    Mono<BigDecimal> sumMontantByEtat(StatutFacture etat);
-    
-    @Query("SELECT COUNT(*) FROM factures WHERE CAST(etat AS TEXT) = :statut")
-    Mono<Long> countByStatut(String statut);
-    
-    @Query("SELECT SUM(montant_total) FROM factures WHERE CAST(etat AS TEXT) = :statut")
-    Mono<BigDecimal> sumMontantByStatut(String statut);
-    
-    @Query("SELECT COUNT(*) FROM factures WHERE date_facturation >= :startDate AND date_facturation <= :endDate")
-    Mono<Long> countByDateBetween(LocalDate startDate, LocalDate endDate);
-    
-    Mono<Boolean> existsByNumeroFacture(String numeroFacture);
+
+    Mono<FacturePersistenceEntity> findByOrganizationIdAndIdFacture(UUID organizationId, UUID idFacture);
+
+    Flux<FacturePersistenceEntity> findByOrganizationId(UUID organizationId);
+
+    Mono<Long> countByOrganizationId(UUID organizationId);
+
+    Mono<Boolean> existsByOrganizationIdAndIdFacture(UUID organizationId, UUID idFacture);
+
+    @Modifying
+    @Query("DELETE FROM factures WHERE organization_id = :organizationId AND id_facture = :idFacture")
+    Mono<Integer> deleteByOrganizationIdAndIdFacture(UUID organizationId, UUID idFacture);
+
+    Mono<FacturePersistenceEntity> findByOrganizationIdAndNumeroFacture(UUID organizationId, String numeroFacture);
+
+    Flux<FacturePersistenceEntity> findByOrganizationIdAndIdClient(UUID organizationId, UUID idClient);
+
+    Flux<FacturePersistenceEntity> findByOrganizationIdAndEtat(UUID organizationId, StatutFacture etat);
+
+    Flux<FacturePersistenceEntity> findByOrganizationIdAndType(UUID organizationId, String type);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND id_client = :idClient AND etat = :etat")
+    Flux<FacturePersistenceEntity> findByClientAndEtat(UUID organizationId, UUID idClient, StatutFacture etat);
+
+    /**
+     * Factures issued from {@code startDate} (inclusive) to {@code endDateExclusive} (exclusive).
+     */
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND date_facturation >= :startDate AND date_facturation < :endDateExclusive")
+    Flux<FacturePersistenceEntity> findByDateFacturationBetween(UUID organizationId, LocalDate startDate, LocalDate endDateExclusive);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND date_echeance BETWEEN :startDate AND :endDate")
+    Flux<FacturePersistenceEntity> findByDateEcheanceBetween(UUID organizationId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND date_echeance < :currentDate AND (etat = 'ENVOYE' OR etat = 'PARTIELLEMENT_PAYE')")
+    Flux<FacturePersistenceEntity> findOverdueFactures(UUID organizationId, LocalDate currentDate);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND montant_total BETWEEN :minAmount AND :maxAmount")
+    Flux<FacturePersistenceEntity> findByMontantTotalBetween(UUID organizationId, BigDecimal minAmount, BigDecimal maxAmount);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND montant_restant > 0")
+    Flux<FacturePersistenceEntity> findUnpaidFactures(UUID organizationId);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND devise = :devise")
+    Flux<FacturePersistenceEntity> findByDevise(UUID organizationId, String devise);
+
+    @Query("SELECT * FROM factures WHERE organization_id = :organizationId AND envoye_par_email = :envoyeParEmail")
+    Flux<FacturePersistenceEntity> findByEnvoyeParEmail(UUID organizationId, Boolean envoyeParEmail);
+
+    @Query("SELECT COUNT(*) FROM factures WHERE organization_id = :organizationId AND etat = :etat")
+    Mono<Long> countByEtat(UUID organizationId, StatutFacture etat);
+
+    @Query("SELECT COUNT(*) FROM factures WHERE organization_id = :organizationId AND id_client = :idClient")
+    Mono<Long> countByIdClient(UUID organizationId, UUID idClient);
+
+    @Query("SELECT CAST(COALESCE(SUM(count), 0) AS BIGINT) FROM facture_daily_rollup WHERE organization_id = :organizationId AND day BETWEEN :startDate AND :endDate")
+    Mono<Long> countByDateFacturationBetween(UUID organizationId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT SUM(sum_total) FROM facture_daily_rollup WHERE organization_id = :organizationId AND day BETWEEN :startDate AND :endDate")
+    Mono<BigDecimal> sumMontantByDateBetween(UUID organizationId, LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT SUM(montant_total) FROM factures WHERE organization_id = :organizationId AND etat = :etat")
+    Mono<BigDecimal> sumMontantByEtat(UUID organizationId, StatutFacture etat);
+
+    @Query("SELECT COUNT(*) FROM factures WHERE organization_id = :organizationId AND CAST(etat AS TEXT) = :statut")
+    Mono<Long> countByStatut(UUID organizationId, String statut);
+
+    @Query("SELECT SUM(montant_total) FROM factures WHERE organization_id = :organizationId AND CAST(etat AS TEXT) = :statut")
+    Mono<BigDecimal> sumMontantByStatut(UUID organizationId, String statut);
+
+    @Query("SELECT CAST(COALESCE(SUM(count), 0) AS BIGINT) FROM facture_daily_rollup WHERE organization_id = :organizationId AND day >= :startDate AND day <= :endDate")
+    Mono<Long> countByDateBetween(UUID organizationId, LocalDate startDate, LocalDate endDate);
+
+    Mono<Boolean> existsByOrganizationIdAndNumeroFacture(UUID organizationId, String numeroFacture);
 }
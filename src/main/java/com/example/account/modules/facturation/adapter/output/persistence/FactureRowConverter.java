@@ -0,0 +1,84 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import com.example.account.modules.core.adapter.output.persistence.RowValues;
+import com.example.account.modules.core.config.JsonbLineCodecs;
+import com.example.account.modules.facturation.domain.model.LigneFacture;
+import com.example.account.modules.facturation.model.enums.StatutFacture;
+import com.example.account.modules.facturation.model.enums.TypePaiementFacture;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Direct Row to {@link FacturePersistenceEntity} mapping, replacing the reflective
+ * MappingR2dbcConverter path for every factures read. Keep in sync with the entity's columns.
+ */
+@ReadingConverter
+public class FactureRowConverter implements Converter<Row, FacturePersistenceEntity> {
+
+    private final JsonbLineCodecs codecs;
+
+    public FactureRowConverter(JsonbLineCodecs codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FacturePersistenceEntity convert(Row row) {
+        RowValues r = RowValues.of(row);
+        FacturePersistenceEntity e = new FacturePersistenceEntity();
+        e.setIdFacture(r.get("id_facture", UUID.class));
+        e.setNumeroFacture(r.get("numero_facture", String.class));
+        e.setDateFacturation(r.get("date_facturation", LocalDateTime.class));
+        e.setDateEcheance(r.get("date_echeance", LocalDateTime.class));
+        e.setDateSysteme(r.get("date_systeme", LocalDateTime.class));
+        e.setType(r.get("type", String.class));
+        e.setEtat(r.getEnum("etat", StatutFacture.class));
+        e.setIdClient(r.get("id_client", UUID.class));
+        e.setNomClient(r.get("nom_client", String.class));
+        e.setAdresseClient(r.get("adresse_client", String.class));
+        e.setEmailClient(r.get("email_client", String.class));
+        e.setTelephoneClient(r.get("telephone_client", String.class));
+        Json lignes = r.get("lignes_facture", Json.class);
+        if (lignes != null) {
+            e.setLignesFacture((List<LigneFacture>) codecs.decode(lignes, LigneFacture.class));
+        }
+        e.setMontantHT(r.get("montant_ht", BigDecimal.class));
+        e.setMontantTVA(r.get("montant_tva", BigDecimal.class));
+        e.setMontantTTC(r.get("montant_ttc", BigDecimal.class));
+        e.setMontantTotal(r.get("montant_total", BigDecimal.class));
+        e.setMontantRestant(r.get("montant_restant", BigDecimal.class));
+        e.setFinalAmount(r.get("final_amount", BigDecimal.class));
+        e.setApplyVat(r.get("apply_vat", Boolean.class));
+        e.setDevise(r.get("devise", String.class));
+        e.setTauxChange(r.get("taux_change", BigDecimal.class, e.getTauxChange()));
+        e.setModeReglement(r.getEnum("mode_reglement", TypePaiementFacture.class));
+        e.setConditionsPaiement(r.get("conditions_paiement", String.class));
+        e.setNbreEcheance(r.get("nbre_echeance", Integer.class));
+        e.setNosRef(r.get("nos_ref", String.class));
+        e.setVosRef(r.get("vos_ref", String.class));
+        e.setReferenceCommande(r.get("reference_commande", String.class));
+        e.setIdDevisOrigine(r.get("id_devis_origine", String.class));
+        e.setReferalClientId(r.get("referal_client_id", UUID.class));
+        e.setNotes(r.get("notes", String.class));
+        e.setPdfPath(r.get("pdf_path", String.class));
+        e.setEnvoyeParEmail(r.get("envoye_par_email", Boolean.class, e.getEnvoyeParEmail()));
+        e.setDateEnvoiEmail(r.get("date_envoi_email", LocalDateTime.class));
+        e.setRemiseGlobalePourcentage(r.get("remise_globale_pourcentage", BigDecimal.class, e.getRemiseGlobalePourcentage()));
+        e.setRemiseGlobaleMontant(r.get("remise_globale_montant", BigDecimal.class, e.getRemiseGlobaleMontant()));
+        e.setCreatedBy(r.get("created_by", UUID.class));
+        e.setValidatedBy(r.get("validated_by", UUID.class));
+        e.setValidatedAt(r.get("validated_at", LocalDateTime.class));
+        e.setCreatedAt(r.get("created_at", LocalDateTime.class));
+        e.setUpdatedAt(r.get("updated_at", LocalDateTime.class));
+        e.setOrganizationId(r.get("organization_id", UUID.class));
+        e.setVersion(r.get("version", Long.class, e.getVersion()));
+        return e;
+    }
+}
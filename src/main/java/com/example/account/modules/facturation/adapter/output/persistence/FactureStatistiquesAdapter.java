@@ -0,0 +1,199 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import com.example.account.modules.core.adapter.output.persistence.TenantScope;
+import com.example.account.modules.facturation.domain.model.ChiffreAffairesMensuel;
+import com.example.account.modules.facturation.domain.model.ClientChiffreAffaires;
+import com.example.account.modules.facturation.domain.model.IndicateursFacturation;
+import com.example.account.modules.facturation.domain.model.ProduitVentes;
+import com.example.account.modules.facturation.domain.port.output.FactureStatistiquesPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Aggregates computed in Postgres; only the final top-K rows (or the monthly series) leave the database.
+ * Every statement is scoped to the current organization through {@link TenantScope}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FactureStatistiquesAdapter implements FactureStatistiquesPort {
+
+    /**
+     * One pass over the organization's invoices: each KPI is a FILTER aggregate on the same scan.
+     * Outstanding amounts use montant_restant; overdue means a past due date with an amount left.
+     */
+    private static final String INDICATEURS_SQL = """
+            WITH facturation AS (
+                SELECT etat, id_client, date_facturation, date_echeance, montant_total, montant_restant,
+                       COALESCE(etat, '') NOT IN ('BROUILLON', 'ANNULE') AS comptabilisee
+                FROM factures
+                WHERE organization_id = :organizationId
+            ),
+            premieres_factures AS (
+                SELECT id_client, MIN(date_facturation) AS premiere_facture
+                FROM facturation
+                WHERE comptabilisee AND id_client IS NOT NULL
+                GROUP BY id_client
+            )
+            SELECT
+                COALESCE(SUM(montant_total) FILTER (WHERE comptabilisee
+                    AND date_facturation >= :debutMois AND date_facturation < :fin), 0) AS ca_mois,
+                COALESCE(SUM(montant_total) FILTER (WHERE comptabilisee
+                    AND date_facturation >= :debutMoisPrecedent AND date_facturation < :finMoisPrecedent), 0) AS ca_mois_precedent,
+                COALESCE(SUM(montant_total) FILTER (WHERE comptabilisee
+                    AND date_facturation >= :debutAnnee AND date_facturation < :fin), 0) AS ca_annee,
+                COUNT(*) AS nombre_factures,
+                COUNT(*) FILTER (WHERE etat = 'PAYE') AS nombre_payees,
+                COUNT(*) FILTER (WHERE etat = 'EN_ATTENTE') AS nombre_en_attente,
+                COALESCE(SUM(montant_restant) FILTER (WHERE etat IN ('ENVOYE', 'PARTIELLEMENT_PAYE', 'EN_ATTENTE')
+                    AND montant_restant > 0 AND (date_echeance IS NULL OR date_echeance >= :aujourdhui)), 0) AS montant_en_attente,
+                COALESCE(SUM(montant_restant) FILTER (WHERE etat IN ('ENVOYE', 'PARTIELLEMENT_PAYE', 'EN_ATTENTE', 'EN_RETARD')
+                    AND montant_restant > 0 AND date_echeance < :aujourdhui), 0) AS montant_en_retard,
+                COUNT(DISTINCT id_client) FILTER (WHERE comptabilisee) AS nombre_clients,
+                COUNT(DISTINCT id_client) FILTER (WHERE comptabilisee
+                    AND date_facturation >= :debutAnnee AND date_facturation < :fin) AS nombre_clients_annee,
+                (SELECT COUNT(*) FROM premieres_factures
+                    WHERE premiere_facture >= :debutMois AND premiere_facture < :fin) AS nombre_nouveaux_clients
+            FROM facturation
+            """;
+
+    private static final String TOP_CLIENTS_SQL = """
+            SELECT id_client, MAX(nom_client) AS nom_client,
+                   COUNT(*) AS nombre_factures, SUM(montant_total) AS montant_total
+            FROM factures
+            WHERE organization_id = :organizationId
+              AND date_facturation >= :startDate AND date_facturation < :endDate
+              AND COALESCE(etat, '') NOT IN ('BROUILLON', 'ANNULE')
+            GROUP BY id_client
+            ORDER BY montant_total DESC NULLS LAST
+            LIMIT :limit
+            """;
+
+    private static final String TOP_PRODUITS_SQL = """
+            SELECT COALESCE(l ->> 'idProduit', l ->> 'nomProduit', l ->> 'description') AS id_produit,
+                   MAX(COALESCE(l ->> 'nomProduit', l ->> 'description')) AS nom_produit,
+                   SUM(COALESCE(CAST(l ->> 'quantite' AS NUMERIC), 0)) AS quantite_vendue,
+                   SUM(COALESCE(CAST(l ->> 'montantTotal' AS NUMERIC), 0)) AS chiffre_affaires
+            FROM factures f
+            CROSS JOIN LATERAL jsonb_array_elements(
+                CASE WHEN jsonb_typeof(f.lignes_facture) = 'array' THEN f.lignes_facture ELSE CAST('[]' AS JSONB) END) AS l
+            WHERE f.organization_id = :organizationId
+              AND f.date_facturation >= :startDate AND f.date_facturation < :endDate
+              AND COALESCE(f.etat, '') NOT IN ('BROUILLON', 'ANNULE')
+              AND COALESCE(CAST(l ->> 'isTaxLine' AS BOOLEAN), FALSE) = FALSE
+            GROUP BY 1
+            ORDER BY chiffre_affaires DESC
+            LIMIT :limit
+            """;
+
+    private static final String CA_MENSUEL_SQL = """
+            WITH ca AS (
+                SELECT date_trunc('month', date_facturation) AS mois, SUM(montant_total) AS montant
+                FROM factures
+                WHERE organization_id = :organizationId
+                  AND date_facturation >= :debut AND date_facturation < :fin
+                  AND COALESCE(etat, '') NOT IN ('BROUILLON', 'ANNULE')
+                GROUP BY 1
+            )
+            SELECT to_char(m.mois, 'YYYY-MM') AS periode, COALESCE(ca.montant, 0) AS montant
+            FROM generate_series(CAST(:debut AS TIMESTAMP), CAST(:fin AS TIMESTAMP) - INTERVAL '1 month', INTERVAL '1 month') AS m(mois)
+            LEFT JOIN ca ON ca.mois = m.mois
+            ORDER BY m.mois
+            """;
+
+    private final DatabaseClient databaseClient;
+    private final FactureDailyRollupWriter rollupWriter;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public Mono<IndicateursFacturation> findIndicateurs(LocalDate dateReference) {
+        LocalDate debutMois = dateReference.withDayOfMonth(1);
+        LocalDate debutMoisPrecedent = debutMois.minusMonths(1);
+        return TenantScope.mono(orgId -> databaseClient.sql(INDICATEURS_SQL)
+                .bind("organizationId", orgId)
+                .bind("aujourdhui", dateReference)
+                .bind("fin", dateReference.plusDays(1))
+                .bind("debutMois", debutMois)
+                .bind("debutMoisPrecedent", debutMoisPrecedent)
+                .bind("finMoisPrecedent", dateReference.minusMonths(1).plusDays(1))
+                .bind("debutAnnee", dateReference.withDayOfYear(1))
+                .map((row, metadata) -> IndicateursFacturation.builder()
+                        .chiffreAffairesMois(orZero(row.get("ca_mois", BigDecimal.class)))
+                        .chiffreAffairesMoisPrecedent(orZero(row.get("ca_mois_precedent", BigDecimal.class)))
+                        .chiffreAffairesAnnee(orZero(row.get("ca_annee", BigDecimal.class)))
+                        .nombreFactures(row.get("nombre_factures", Long.class))
+                        .nombreFacturesPayees(row.get("nombre_payees", Long.class))
+                        .nombreFacturesEnAttente(row.get("nombre_en_attente", Long.class))
+                        .montantFacturesEnAttente(orZero(row.get("montant_en_attente", BigDecimal.class)))
+                        .montantFacturesEnRetard(orZero(row.get("montant_en_retard", BigDecimal.class)))
+                        .nombreClients(row.get("nombre_clients", Long.class))
+                        .nombreClientsAnnee(row.get("nombre_clients_annee", Long.class))
+                        .nombreNouveauxClients(row.get("nombre_nouveaux_clients", Long.class))
+                        .build())
+                .one());
+    }
+
+    @Override
+    public Flux<ClientChiffreAffaires> findTopClients(LocalDate startDate, LocalDate endDate, int limit) {
+        return TenantScope.flux(orgId -> databaseClient.sql(TOP_CLIENTS_SQL)
+                .bind("organizationId", orgId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate.plusDays(1))
+                .bind("limit", limit)
+                .map((row, metadata) -> ClientChiffreAffaires.builder()
+                        .idClient(row.get("id_client", UUID.class))
+                        .nomClient(row.get("nom_client", String.class))
+                        .nombreFactures(row.get("nombre_factures", Long.class))
+                        .montantTotal(orZero(row.get("montant_total", BigDecimal.class)))
+                        .build())
+                .all());
+    }
+
+    @Override
+    public Flux<ProduitVentes> findTopProduits(LocalDate startDate, LocalDate endDate, int limit) {
+        return TenantScope.flux(orgId -> databaseClient.sql(TOP_PRODUITS_SQL)
+                .bind("organizationId", orgId)
+                .bind("startDate", startDate)
+                .bind("endDate", endDate.plusDays(1))
+                .bind("limit", limit)
+                .map((row, metadata) -> ProduitVentes.builder()
+                        .idProduit(row.get("id_produit", String.class))
+                        .nomProduit(row.get("nom_produit", String.class))
+                        .quantiteVendue(orZero(row.get("quantite_vendue", BigDecimal.class)))
+                        .chiffreAffaires(orZero(row.get("chiffre_affaires", BigDecimal.class)))
+                        .build())
+                .all());
+    }
+
+    @Override
+    public Flux<ChiffreAffairesMensuel> findChiffreAffairesMensuel(LocalDate finPeriode, int nombreMois) {
+        LocalDate fin = finPeriode.withDayOfMonth(1).plusMonths(1);
+        LocalDate debut = fin.minusMonths(nombreMois);
+        return TenantScope.flux(orgId -> databaseClient.sql(CA_MENSUEL_SQL)
+                .bind("organizationId", orgId)
+                .bind("debut", debut)
+                .bind("fin", fin)
+                .map((row, metadata) -> ChiffreAffairesMensuel.builder()
+                        .periode(row.get("periode", String.class))
+                        .montant(orZero(row.get("montant", BigDecimal.class)))
+                        .build())
+                .all());
+    }
+
+    @Override
+    public Mono<Long> reconstruireAgregatsJournaliers() {
+        return TenantScope.mono(rollupWriter::rebuild)
+                .as(transactionalOperator::transactional);
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
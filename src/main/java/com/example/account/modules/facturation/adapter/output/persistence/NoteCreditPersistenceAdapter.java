@@ -1,15 +1,18 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.SummaryProjection;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.NoteCreditPersistenceMapper;
 import com.example.account.modules.facturation.domain.model.NoteCredit;
 import com.example.account.modules.facturation.domain.port.output.NoteCreditRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -17,6 +20,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NoteCreditPersistenceAdapter implements NoteCreditRepositoryPort {
 
+    private static final Set<String> LINE_PROPERTIES = Set.of("lignesNoteCredit");
+
     private final NoteCreditR2dbcRepository repository;
     private final NoteCreditPersistenceMapper mapper;
     private final R2dbcEntityTemplate entityTemplate;
@@ -71,6 +76,12 @@ public class NoteCreditPersistenceAdapter implements NoteCreditRepositoryPort {
         return repository.findAll().map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<NoteCredit> findAllSummaries() {
+        return SummaryProjection.select(entityTemplate, NoteCreditPersistenceEntity.class, Criteria.empty(), LINE_PROPERTIES)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Void> delete(NoteCredit noteCredit) {
         return repository.delete(mapper.toEntity(noteCredit));
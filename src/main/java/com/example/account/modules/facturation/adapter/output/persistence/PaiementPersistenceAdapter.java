@@ -1,10 +1,16 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.KeysetQuery;
+import com.example.account.modules.core.adapter.output.persistence.TenantScope;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.model.Paiement;
 import com.example.account.modules.facturation.domain.port.output.PaiementRepositoryPort;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.PaiementPersistenceMapper;
 import com.example.account.modules.facturation.model.enums.TypePaiement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,74 +25,90 @@ public class PaiementPersistenceAdapter implements PaiementRepositoryPort {
 
     private final PaiementR2dbcRepository repository;
     private final PaiementPersistenceMapper mapper;
+    private final R2dbcEntityTemplate entityTemplate;
 
     @Override
     public Mono<Paiement> findById(UUID id) {
-        return repository.findById(id).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndIdPaiement(orgId, id)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Paiement> findAll() {
-        return repository.findAll().map(mapper::toDomain);
+        return TenantScope.flux(repository::findByOrganizationId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<KeysetPage<Paiement>> findPage(UUID organizationId, KeysetCursor after, int limit) {
+        Query query = KeysetQuery.after(organizationId, after, "createdAt", "idPaiement", limit);
+        return KeysetQuery.toPage(entityTemplate.select(query, PaiementPersistenceEntity.class),
+                organizationId, limit,
+                PaiementPersistenceEntity::getCreatedAt, PaiementPersistenceEntity::getIdPaiement,
+                mapper::toDomain);
     }
 
     @Override
     public Flux<Paiement> findByIdClient(UUID idClient) {
-        return repository.findByIdClient(idClient).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndIdClient(orgId, idClient)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Paiement> findByIdFacture(UUID idFacture) {
-        return repository.findByIdFacture(idFacture).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndIdFacture(orgId, idFacture)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Paiement> findByModePaiement(TypePaiement mode) {
-        return repository.findByModePaiement(mode).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndModePaiement(orgId, mode)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Paiement> findByDateBetween(LocalDate start, LocalDate end) {
-        return repository.findByDateBetween(start, end).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndDateBetween(orgId, start, end)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByClient(UUID idClient) {
-        return repository.sumMontantByClient(idClient);
+        return TenantScope.mono(orgId -> repository.sumMontantByClient(orgId, idClient));
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByFacture(UUID idFacture) {
-        return repository.sumMontantByFacture(idFacture);
+        return TenantScope.mono(orgId -> repository.sumMontantByFacture(orgId, idFacture));
     }
 
     @Override
     public Mono<BigDecimal> sumMontantByDateBetween(LocalDate start, LocalDate end) {
-        return repository.sumMontantByDateBetween(start, end);
+        return TenantScope.mono(orgId -> repository.sumMontantByDateBetween(orgId, start, end));
     }
 
     @Override
     public Mono<Long> countByIdClient(UUID idClient) {
-        return repository.countByIdClient(idClient);
+        return TenantScope.mono(orgId -> repository.countByOrganizationIdAndIdClient(orgId, idClient));
     }
 
     @Override
     public Mono<Long> countByModePaiement(TypePaiement mode) {
-        return repository.countByModePaiement(mode);
+        return TenantScope.mono(orgId -> repository.countByOrganizationIdAndModePaiement(orgId, mode));
     }
 
     @Override
     public Mono<Paiement> save(Paiement paiement) {
-        return repository.save(mapper.toEntity(paiement)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.save(scoped(paiement, orgId))).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Void> deleteById(UUID id) {
-        return repository.deleteById(id);
+        return TenantScope.mono(orgId -> repository.deleteByOrganizationIdAndIdPaiement(orgId, id)).then();
     }
 
     @Override
     public Mono<Boolean> existsById(UUID id) {
-        return repository.existsById(id);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndIdPaiement(orgId, id));
+    }
+
+    private PaiementPersistenceEntity scoped(Paiement paiement, UUID organizationId) {
+        PaiementPersistenceEntity entity = mapper.toEntity(paiement);
+        entity.setOrganizationId(TenantScope.owner(entity.getOrganizationId(), organizationId));
+        return entity;
     }
 }
@@ -1,6 +1,7 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
 import com.example.account.modules.facturation.model.enums.TypePaiement;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -11,22 +12,34 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Every query is scoped to one organization (leading organization_id predicate).
+ * Call through {@link com.example.account.modules.core.adapter.output.persistence.TenantScope}.
+ */
 @Repository
 public interface PaiementR2dbcRepository extends R2dbcRepository<PaiementPersistenceEntity, UUID> {
-    Flux<PaiementPersistenceEntity> findByIdClient(UUID idClient);
-    Flux<PaiementPersistenceEntity> findByIdFacture(UUID idFacture);
-    Flux<PaiementPersistenceEntity> findByModePaiement(TypePaiement mode);
-    Flux<PaiementPersistenceEntity> findByDateBetween(LocalDate start, LocalDate end);
+    Mono<PaiementPersistenceEntity> findByOrganizationIdAndIdPaiement(UUID organizationId, UUID idPaiement);
+    Flux<PaiementPersistenceEntity> findByOrganizationId(UUID organizationId);
+    Mono<Boolean> existsByOrganizationIdAndIdPaiement(UUID organizationId, UUID idPaiement);
 
-    @Query("SELECT SUM(montant) FROM paiements WHERE id_client = :idClient")
-    Mono<BigDecimal> sumMontantByClient(UUID idClient);
+    @Modifying
+    @Query("DELETE FROM paiements WHERE organization_id = :organizationId AND id_paiement = :idPaiement")
+    Mono<Integer> deleteByOrganizationIdAndIdPaiement(UUID organizationId, UUID idPaiement);
 
-    @Query("SELECT SUM(montant) FROM paiements WHERE id_facture = :idFacture")
-    Mono<BigDecimal> sumMontantByFacture(UUID idFacture);
+    Flux<PaiementPersistenceEntity> findByOrganizationIdAndIdClient(UUID organizationId, UUID idClient);
+    Flux<PaiementPersistenceEntity> findByOrganizationIdAndIdFacture(UUID organizationId, UUID idFacture);
+    Flux<PaiementPersistenceEntity> findByOrganizationIdAndModePaiement(UUID organizationId, TypePaiement mode);
+    Flux<PaiementPersistenceEntity> findByOrganizationIdAndDateBetween(UUID organizationId, LocalDate start, LocalDate end);
 
-    @Query("SELECT SUM(montant) FROM paiements WHERE date BETWEEN :start AND :end")
-    Mono<BigDecimal> sumMontantByDateBetween(LocalDate start, LocalDate end);
+    @Query("SELECT SUM(montant) FROM paiements WHERE organization_id = :organizationId AND id_client = :idClient")
+    Mono<BigDecimal> sumMontantByClient(UUID organizationId, UUID idClient);
 
-    Mono<Long> countByIdClient(UUID idClient);
-    Mono<Long> countByModePaiement(TypePaiement mode);
+    @Query("SELECT SUM(montant) FROM paiements WHERE organization_id = :organizationId AND id_facture = :idFacture")
+    Mono<BigDecimal> sumMontantByFacture(UUID organizationId, UUID idFacture);
+
+    @Query("SELECT SUM(montant) FROM paiements WHERE organization_id = :organizationId AND date BETWEEN :start AND :end")
+    Mono<BigDecimal> sumMontantByDateBetween(UUID organizationId, LocalDate start, LocalDate end);
+
+    Mono<Long> countByOrganizationIdAndIdClient(UUID organizationId, UUID idClient);
+    Mono<Long> countByOrganizationIdAndModePaiement(UUID organizationId, TypePaiement mode);
 }
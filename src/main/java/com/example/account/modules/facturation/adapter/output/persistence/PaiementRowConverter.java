@@ -0,0 +1,39 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import com.example.account.modules.core.adapter.output.persistence.RowValues;
+import com.example.account.modules.facturation.model.enums.TypePaiement;
+import io.r2dbc.spi.Row;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Direct Row to {@link PaiementPersistenceEntity} mapping, replacing the reflective
+ * MappingR2dbcConverter path for every paiements read. Keep in sync with the entity's columns.
+ */
+@ReadingConverter
+public class PaiementRowConverter implements Converter<Row, PaiementPersistenceEntity> {
+
+    @Override
+    public PaiementPersistenceEntity convert(Row row) {
+        RowValues r = RowValues.of(row);
+        PaiementPersistenceEntity e = new PaiementPersistenceEntity();
+        e.setIdPaiement(r.get("id_paiement", UUID.class));
+        e.setIdClient(r.get("id_client", UUID.class));
+        e.setMontant(r.get("montant", BigDecimal.class));
+        e.setDate(r.get("date", LocalDate.class));
+        e.setJournal(r.get("journal", String.class));
+        e.setModePaiement(r.getEnum("mode_paiement", TypePaiement.class));
+        e.setCompteBancaireF(r.get("compte_bancaire_f", String.class));
+        e.setMemo(r.get("memo", String.class));
+        e.setIdFacture(r.get("id_facture", UUID.class));
+        e.setCreatedAt(r.get("created_at", LocalDateTime.class));
+        e.setUpdatedAt(r.get("updated_at", LocalDateTime.class));
+        e.setOrganizationId(r.get("organization_id", UUID.class));
+        return e;
+    }
+}
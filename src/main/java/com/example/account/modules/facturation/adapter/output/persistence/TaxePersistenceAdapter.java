@@ -1,9 +1,15 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import com.example.account.modules.core.adapter.output.persistence.KeysetQuery;
+import com.example.account.modules.core.adapter.output.persistence.TenantScope;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.model.Taxes;
 import com.example.account.modules.facturation.domain.port.output.TaxeRepositoryPort;
 import com.example.account.modules.facturation.adapter.output.persistence.mapper.TaxePersistenceMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,84 +23,100 @@ public class TaxePersistenceAdapter implements TaxeRepositoryPort {
 
     private final TaxeR2dbcRepository repository;
     private final TaxePersistenceMapper mapper;
+    private final R2dbcEntityTemplate entityTemplate;
 
     @Override
     public Mono<Taxes> findById(UUID id) {
-        return repository.findById(id).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndIdTaxe(orgId, id)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Taxes> findByNomTaxe(String nomTaxe) {
-        return repository.findByNomTaxe(nomTaxe).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.findByOrganizationIdAndNomTaxe(orgId, nomTaxe)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findAll() {
-        return repository.findAll().map(mapper::toDomain);
+        return TenantScope.flux(repository::findByOrganizationId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<KeysetPage<Taxes>> findPage(UUID organizationId, KeysetCursor after, int limit) {
+        Query query = KeysetQuery.after(organizationId, after, "createdAt", "idTaxe", limit);
+        return KeysetQuery.toPage(entityTemplate.select(query, TaxePersistenceEntity.class),
+                organizationId, limit,
+                TaxePersistenceEntity::getCreatedAt, TaxePersistenceEntity::getIdTaxe,
+                mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findAllActiveTaxes() {
-        return repository.findAllActiveTaxes().map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findAllActiveTaxes(orgId)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findByTypeTaxe(String typeTaxe) {
-        return repository.findByTypeTaxe(typeTaxe).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndTypeTaxe(orgId, typeTaxe)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findActiveByTypeTaxe(String typeTaxe) {
-        return repository.findActiveByTypeTaxe(typeTaxe).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findActiveByTypeTaxe(orgId, typeTaxe)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findByPorteTaxe(String porteTaxe) {
-        return repository.findByPorteTaxe(porteTaxe).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndPorteTaxe(orgId, porteTaxe)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findByPositionFiscale(String positionFiscale) {
-        return repository.findByPositionFiscale(positionFiscale).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndPositionFiscale(orgId, positionFiscale)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findByCalculTaxeBetween(BigDecimal min, BigDecimal max) {
-        return repository.findByCalculTaxeBetween(min, max).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndCalculTaxeBetween(orgId, min, max)).map(mapper::toDomain);
     }
 
     @Override
     public Flux<Taxes> findByMontantBetween(BigDecimal min, BigDecimal max) {
-        return repository.findByMontantBetween(min, max).map(mapper::toDomain);
+        return TenantScope.flux(orgId -> repository.findByOrganizationIdAndMontantBetween(orgId, min, max)).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Boolean> existsByNomTaxe(String nomTaxe) {
-        return repository.existsByNomTaxe(nomTaxe);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndNomTaxe(orgId, nomTaxe));
     }
 
     @Override
     public Mono<Boolean> existsById(UUID id) {
-        return repository.existsById(id);
+        return TenantScope.mono(orgId -> repository.existsByOrganizationIdAndIdTaxe(orgId, id));
     }
 
     @Override
     public Mono<Taxes> save(Taxes taxe) {
-        return repository.save(mapper.toEntity(taxe)).map(mapper::toDomain);
+        return TenantScope.mono(orgId -> repository.save(scoped(taxe, orgId))).map(mapper::toDomain);
     }
 
     @Override
     public Mono<Void> deleteById(UUID id) {
-        return repository.deleteById(id);
+        return TenantScope.mono(orgId -> repository.deleteByOrganizationIdAndIdTaxe(orgId, id)).then();
     }
 
     @Override
     public Mono<Long> countActiveTaxes() {
-        return repository.countActiveTaxes();
+        return TenantScope.mono(orgId -> repository.countActiveTaxes(orgId));
     }
 
     @Override
     public Mono<Long> countByTypeTaxe(String typeTaxe) {
-        return repository.countByTypeTaxe(typeTaxe);
+        return TenantScope.mono(orgId -> repository.countByTypeTaxe(orgId, typeTaxe));
+    }
+
+    private TaxePersistenceEntity scoped(Taxes taxe, UUID organizationId) {
+        TaxePersistenceEntity entity = mapper.toEntity(taxe);
+        entity.setOrganizationId(TenantScope.owner(entity.getOrganizationId(), organizationId));
+        return entity;
     }
 }
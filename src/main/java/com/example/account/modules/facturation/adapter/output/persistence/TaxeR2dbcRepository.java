@@ -1,5 +1,6 @@
 package com.example.account.modules.facturation.adapter.output.persistence;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -9,27 +10,39 @@ import reactor.core.publisher.Mono;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+/**
+ * Every query is scoped to one organization (leading organization_id predicate).
+ * Call through {@link com.example.account.modules.core.adapter.output.persistence.TenantScope}.
+ */
 @Repository
 public interface TaxeR2dbcRepository extends R2dbcRepository<TaxePersistenceEntity, UUID> {
-    Mono<TaxePersistenceEntity> findByNomTaxe(String nomTaxe);
-    Flux<TaxePersistenceEntity> findByActifTrue();
-    Flux<TaxePersistenceEntity> findByTypeTaxe(String typeTaxe);
-    Mono<Boolean> existsByNomTaxe(String nomTaxe);
+    Mono<TaxePersistenceEntity> findByOrganizationIdAndIdTaxe(UUID organizationId, UUID idTaxe);
+    Flux<TaxePersistenceEntity> findByOrganizationId(UUID organizationId);
+    Mono<Boolean> existsByOrganizationIdAndIdTaxe(UUID organizationId, UUID idTaxe);
+
+    @Modifying
+    @Query("DELETE FROM taxes WHERE organization_id = :organizationId AND id_taxe = :idTaxe")
+    Mono<Integer> deleteByOrganizationIdAndIdTaxe(UUID organizationId, UUID idTaxe);
+
+    Mono<TaxePersistenceEntity> findByOrganizationIdAndNomTaxe(UUID organizationId, String nomTaxe);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndActifTrue(UUID organizationId);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndTypeTaxe(UUID organizationId, String typeTaxe);
+    Mono<Boolean> existsByOrganizationIdAndNomTaxe(UUID organizationId, String nomTaxe);
     
-    @Query("SELECT * FROM taxes WHERE actif = true")
-    Flux<TaxePersistenceEntity> findAllActiveTaxes();
+    @Query("SELECT * FROM taxes WHERE organization_id = :organizationId AND actif = true")
+    Flux<TaxePersistenceEntity> findAllActiveTaxes(UUID organizationId);
     
-    @Query("SELECT * FROM taxes WHERE type_taxe = :typeTaxe AND actif = true")
-    Flux<TaxePersistenceEntity> findActiveByTypeTaxe(String typeTaxe);
+    @Query("SELECT * FROM taxes WHERE organization_id = :organizationId AND type_taxe = :typeTaxe AND actif = true")
+    Flux<TaxePersistenceEntity> findActiveByTypeTaxe(UUID organizationId, String typeTaxe);
     
-    Flux<TaxePersistenceEntity> findByPorteTaxe(String porteTaxe);
-    Flux<TaxePersistenceEntity> findByPositionFiscale(String positionFiscale);
-    Flux<TaxePersistenceEntity> findByCalculTaxeBetween(BigDecimal minTaux, BigDecimal maxTaux);
-    Flux<TaxePersistenceEntity> findByMontantBetween(BigDecimal minMontant, BigDecimal maxMontant);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndPorteTaxe(UUID organizationId, String porteTaxe);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndPositionFiscale(UUID organizationId, String positionFiscale);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndCalculTaxeBetween(UUID organizationId, BigDecimal minTaux, BigDecimal maxTaux);
+    Flux<TaxePersistenceEntity> findByOrganizationIdAndMontantBetween(UUID organizationId, BigDecimal minMontant, BigDecimal maxMontant);
     
-    @Query("SELECT COUNT(*) FROM taxes WHERE actif = true")
-    Mono<Long> countActiveTaxes();
+    @Query("SELECT COUNT(*) FROM taxes WHERE organization_id = :organizationId AND actif = true")
+    Mono<Long> countActiveTaxes(UUID organizationId);
     
-    @Query("SELECT COUNT(*) FROM taxes WHERE type_taxe = :typeTaxe")
-    Mono<Long> countByTypeTaxe(String typeTaxe);
+    @Query("SELECT COUNT(*) FROM taxes WHERE organization_id = :organizationId AND type_taxe = :typeTaxe")
+    Mono<Long> countByTypeTaxe(UUID organizationId, String typeTaxe);
 }
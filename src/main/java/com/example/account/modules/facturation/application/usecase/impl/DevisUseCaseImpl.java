@@ -1,5 +1,8 @@
 package com.example.account.modules.facturation.application.usecase.impl;
 
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.model.Devis;
 import com.example.account.modules.facturation.domain.port.input.DevisUseCase;
 import com.example.account.modules.facturation.domain.port.output.DevisEventPort;
@@ -12,7 +15,6 @@ import com.example.account.modules.facturation.mapper.DevisMapper;
 import com.example.account.modules.facturation.model.enums.StatutDevis;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -48,14 +50,16 @@ public class DevisUseCaseImpl implements DevisUseCase {
             devis.setIdDevis(UUID.randomUUID());
         }
         
+        if (devis.getDateCreation() == null) {
+            devis.setDateCreation(LocalDateTime.now());
+        }
         devis.setUpdatedAt(LocalDateTime.now());
 
         return devisRepository.insert(devis)
-                .map(savedDevis -> {
+                .flatMap(savedDevis -> {
                     DevisResponse response = devisMapper.toResponse(savedDevis);
-                    devisEventProducer.publishDevisCreated(response);
                     log.info("Devis créé avec succès: {}", savedDevis.getNumeroDevis());
-                    return response;
+                    return devisEventProducer.publishDevisCreated(response).thenReturn(response);
                 });
     }
 
@@ -71,11 +75,10 @@ public class DevisUseCaseImpl implements DevisUseCase {
                     devis.setUpdatedAt(LocalDateTime.now());
                     return devisRepository.save(devis);
                 })
-                .map(updatedDevis -> {
+                .flatMap(updatedDevis -> {
                     DevisResponse response = devisMapper.toResponse(updatedDevis);
-                    devisEventProducer.publishDevisUpdated(response);
                     log.info("Devis mis à jour avec succès: {}", devisId);
-                    return response;
+                    return devisEventProducer.publishDevisUpdated(response).thenReturn(response);
                 });
     }
 
@@ -101,35 +104,34 @@ public class DevisUseCaseImpl implements DevisUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<DevisResponse> getAllDevis() {
+    public Flux<DevisResponse> getAllDevis(boolean includeLines) {
         log.info("Récupération de tous les devis");
-        return devisRepository.findAll()
+        return (includeLines ? devisRepository.findAll() : devisRepository.findAllSummaries())
                 .map(devisMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<DevisResponse> getAllDevis(Pageable pageable) {
-        log.info("Récupération de tous les devis avec pagination");
-        return devisRepository.findAll()
-                .skip(pageable.getOffset())
-                .take(pageable.getPageSize())
-                .map(devisMapper::toResponse);
+    public Mono<KeysetPage<DevisResponse>> getDevisPage(String cursor, int size) {
+        log.info("Récupération d'une page de devis (taille {})", size);
+        return ReactiveOrganizationContext.getOrganizationId()
+                .flatMap(orgId -> devisRepository.findPage(orgId, KeysetCursor.decode(cursor, orgId), KeysetPage.clampSize(size)))
+                .map(page -> page.map(devisMapper::toResponse));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<DevisResponse> getDevisByClient(UUID clientId) {
+    public Flux<DevisResponse> getDevisByClient(UUID clientId, boolean includeLines) {
         log.info("Récupération des devis du client: {}", clientId);
-        return devisRepository.findByIdClient(clientId)
+        return (includeLines ? devisRepository.findByIdClient(clientId) : devisRepository.findSummariesByIdClient(clientId))
                 .map(devisMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<DevisResponse> getDevisByStatut(StatutDevis statut) {
+    public Flux<DevisResponse> getDevisByStatut(StatutDevis statut, boolean includeLines) {
         log.info("Récupération des devis par statut: {}", statut);
-        return devisRepository.findByStatut(statut)
+        return (includeLines ? devisRepository.findByStatut(statut) : devisRepository.findSummariesByStatut(statut))
                 .map(devisMapper::toResponse);
     }
 
@@ -143,9 +145,10 @@ public class DevisUseCaseImpl implements DevisUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<DevisResponse> getDevisByPeriode(LocalDate dateDebut, LocalDate dateFin) {
+    public Flux<DevisResponse> getDevisByPeriode(LocalDate dateDebut, LocalDate dateFin, boolean includeLines) {
         log.info("Récupération des devis entre {} et {}", dateDebut, dateFin);
-        return devisRepository.findByDateCreationBetween(dateDebut, dateFin)
+        return (includeLines ? devisRepository.findByDateCreationBetween(dateDebut, dateFin)
+                : devisRepository.findSummariesByDateCreationBetween(dateDebut, dateFin))
                 .map(devisMapper::toResponse);
     }
 
@@ -160,7 +163,7 @@ public class DevisUseCaseImpl implements DevisUseCase {
                         return Mono.error(new IllegalArgumentException("Devis non trouvé: " + devisId));
                     }
                     return devisRepository.deleteById(devisId)
-                            .then(Mono.fromRunnable(() -> devisEventProducer.publishDevisDeleted(devisId)));
+                            .then(Mono.defer(() -> devisEventProducer.publishDevisDeleted(devisId)));
                 })
                 .then();
     }
@@ -177,11 +180,10 @@ public class DevisUseCaseImpl implements DevisUseCase {
                     devis.setDateAcceptation(LocalDateTime.now());
                     return devisRepository.save(devis);
                 })
-                .map(updatedDevis -> {
+                .flatMap(updatedDevis -> {
                     DevisResponse response = devisMapper.toResponse(updatedDevis);
-                    devisEventProducer.publishDevisAccepted(response);
                     log.info("Devis accepté: {}", devisId);
-                    return response;
+                    return devisEventProducer.publishDevisAccepted(response).thenReturn(response);
                 });
     }
 
@@ -55,17 +55,17 @@ public class FactureProformaUseCaseImpl implements FactureProformaUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<ProformaInvoiceResponse> getAllProformas() {
+    public Flux<ProformaInvoiceResponse> getAllProformas(boolean includeLines) {
         log.info("Récupération de toutes les factures proforma");
-        return proformaRepository.findAll()
+        return (includeLines ? proformaRepository.findAll() : proformaRepository.findAllSummaries())
                 .map(proformaMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<ProformaInvoiceResponse> getProformasByClient(UUID idClient) {
+    public Flux<ProformaInvoiceResponse> getProformasByClient(UUID idClient, boolean includeLines) {
         log.info("Récupération des factures proforma du client: {}", idClient);
-        return proformaRepository.findByIdClient(idClient)
+        return (includeLines ? proformaRepository.findByIdClient(idClient) : proformaRepository.findSummariesByIdClient(idClient))
                 .map(proformaMapper::toResponse);
     }
 
@@ -1,22 +1,30 @@
 package com.example.account.modules.facturation.application.usecase.impl;
 
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.domain.model.ArchiveEntry;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.model.Facture;
+import com.example.account.modules.facturation.domain.model.StoredPdf;
 import com.example.account.modules.facturation.domain.port.input.FactureUseCase;
 import com.example.account.modules.facturation.domain.port.output.AccountingServicePort;
 import com.example.account.modules.facturation.domain.port.output.FactureEventPort;
 import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
-import com.example.account.modules.facturation.domain.port.output.SellerServicePort;
 import com.example.account.modules.facturation.dto.request.FactureCreateRequest;
 import com.example.account.modules.facturation.dto.response.FactureResponse;
-import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.EnrichedFactureResponse;
 import com.example.account.modules.facturation.mapper.FactureMapper;
 import com.example.account.modules.facturation.model.enums.StatutFacture;
 import com.example.account.modules.facturation.service.EmailService;
+import com.example.account.modules.facturation.service.Journals.FactureJournalService;
+import com.example.account.modules.facturation.service.FacturePdfCache;
 import com.example.account.modules.facturation.service.PdfGeneratorService;
+import com.example.account.modules.facturation.service.PdfRenderScheduler;
+import com.example.account.modules.tiers.domain.model.Client;
 import com.example.account.modules.tiers.domain.port.output.ClientRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -24,8 +32,13 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Service
 @RequiredArgsConstructor
@@ -36,11 +49,17 @@ public class FactureUseCaseImpl implements FactureUseCase {
     private final FactureMapper factureMapper;
     private final FactureEventPort factureEventPort;
     private final PdfGeneratorService pdfGeneratorService;
+    private final FacturePdfCache facturePdfCache;
     private final EmailService emailService;
     private final AccountingServicePort accountingService;
-    private final SellerServicePort sellerService;
+    private final FactureJournalService factureJournalService;
     private final ClientRepositoryPort clientRepository;
 
+    static final String ARCHIVE_ERRORS_ENTRY = "ERRORS.txt";
+
+    @Value("${comops.pdf.archive.concurrency:4}")
+    private int archiveConcurrency;
+
     @Override
     @Transactional
     public Mono<FactureResponse> createFacture(FactureCreateRequest request) {
@@ -52,11 +71,10 @@ public class FactureUseCaseImpl implements FactureUseCase {
         }
 
         return factureRepository.insert(facture)
-                .map(savedFacture -> {
+                .flatMap(savedFacture -> {
                     FactureResponse response = factureMapper.toResponse(savedFacture);
-                    factureEventPort.publishFactureCreated(response);
                     log.info("Facture créée avec succès: {}", savedFacture.getNumeroFacture());
-                    return response;
+                    return factureEventPort.publishFactureCreated(response).thenReturn(response);
                 });
     }
 
@@ -71,11 +89,10 @@ public class FactureUseCaseImpl implements FactureUseCase {
                     factureMapper.updateEntityFromRequest(request, facture);
                     return factureRepository.save(facture);
                 })
-                .map(updatedFacture -> {
+                .flatMap(updatedFacture -> {
                     FactureResponse response = factureMapper.toResponse(updatedFacture);
-                    factureEventPort.publishFactureUpdated(response);
                     log.info("Facture mise à jour avec succès: {}", factureId);
-                    return response;
+                    return factureEventPort.publishFactureUpdated(response).thenReturn(response);
                 });
     }
 
@@ -111,59 +128,59 @@ public class FactureUseCaseImpl implements FactureUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getAllFactures() {
+    public Flux<FactureResponse> getAllFactures(boolean includeLines) {
         log.info("Récupération de toutes les factures");
-        return factureRepository.findAll()
+        return (includeLines ? factureRepository.findAll() : factureRepository.findAllSummaries())
                 .map(factureMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getAllFactures(Pageable pageable) {
-        log.info("Récupération de toutes les factures avec pagination");
-        return factureRepository.findAll()
-                .skip(pageable.getOffset())
-                .take(pageable.getPageSize())
-                .map(factureMapper::toResponse);
+    public Mono<KeysetPage<FactureResponse>> getFacturesPage(String cursor, int size) {
+        log.info("Récupération d'une page de factures (taille {})", size);
+        return ReactiveOrganizationContext.getOrganizationId()
+                .flatMap(orgId -> factureRepository.findPage(orgId, KeysetCursor.decode(cursor, orgId), KeysetPage.clampSize(size)))
+                .map(page -> page.map(factureMapper::toResponse));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getFacturesByClient(UUID clientId) {
+    public Flux<FactureResponse> getFacturesByClient(UUID clientId, boolean includeLines) {
         log.info("Récupération des factures du client: {}", clientId);
-        return factureRepository.findByIdClient(clientId)
+        return (includeLines ? factureRepository.findByIdClient(clientId) : factureRepository.findSummariesByIdClient(clientId))
                 .map(factureMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getFacturesByEtat(StatutFacture etat) {
+    public Flux<FactureResponse> getFacturesByEtat(StatutFacture etat, boolean includeLines) {
         log.info("Récupération des factures par état: {}", etat);
-        return factureRepository.findByEtat(etat)
+        return (includeLines ? factureRepository.findByEtat(etat) : factureRepository.findSummariesByEtat(etat))
                 .map(factureMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getFacturesEnRetard() {
+    public Flux<FactureResponse> getFacturesEnRetard(boolean includeLines) {
         log.info("Récupération des factures en retard");
-        return factureRepository.findOverdueFactures(LocalDate.now())
+        return (includeLines ? factureRepository.findOverdueFactures(LocalDate.now()) : factureRepository.findOverdueSummaries(LocalDate.now()))
                 .map(factureMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getFacturesNonPayees() {
+    public Flux<FactureResponse> getFacturesNonPayees(boolean includeLines) {
         log.info("Récupération des factures non payées");
-        return factureRepository.findUnpaidFactures()
+        return (includeLines ? factureRepository.findUnpaidFactures() : factureRepository.findUnpaidSummaries())
                 .map(factureMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<FactureResponse> getFacturesByPeriode(LocalDate dateDebut, LocalDate dateFin) {
+    public Flux<FactureResponse> getFacturesByPeriode(LocalDate dateDebut, LocalDate dateFin, boolean includeLines) {
         log.info("Récupération des factures entre {} et {}", dateDebut, dateFin);
-        return factureRepository.findByDateFacturationBetween(dateDebut, dateFin)
+        return (includeLines ? factureRepository.findByDateFacturationBetween(dateDebut, dateFin)
+                : factureRepository.findSummariesByDateFacturationBetween(dateDebut, dateFin))
                 .map(factureMapper::toResponse);
     }
 
@@ -178,7 +195,7 @@ public class FactureUseCaseImpl implements FactureUseCase {
                         return Mono.error(new IllegalArgumentException("Facture non trouvée: " + factureId));
                     }
                     return factureRepository.deleteById(factureId)
-                            .then(Mono.fromRunnable(() -> factureEventPort.publishFactureDeleted(factureId)));
+                            .then(Mono.defer(() -> factureEventPort.publishFactureDeleted(factureId)));
                 })
                 .then()
                 .doOnSuccess(v -> log.info("Facture supprimée avec succès: {}", factureId));
@@ -196,11 +213,10 @@ public class FactureUseCaseImpl implements FactureUseCase {
                     facture.setMontantRestant(BigDecimal.ZERO);
                     return factureRepository.save(facture);
                 })
-                .map(updatedFacture -> {
+                .flatMap(updatedFacture -> {
                     FactureResponse response = factureMapper.toResponse(updatedFacture);
-                    factureEventPort.publishFacturePaid(response);
                     log.info("Facture marquée comme payée: {}", factureId);
-                    return response;
+                    return factureEventPort.publishFacturePaid(response).thenReturn(response);
                 });
     }
 
@@ -227,12 +243,12 @@ public class FactureUseCaseImpl implements FactureUseCase {
                     }
 
                     return factureRepository.save(facture)
-                            .map(updatedFacture -> {
+                            .flatMap(updatedFacture -> {
                                 FactureResponse response = factureMapper.toResponse(updatedFacture);
                                 if (nouveauMontantRestant.compareTo(BigDecimal.ZERO) == 0) {
-                                    factureEventPort.publishFacturePaid(response);
+                                    return factureEventPort.publishFacturePaid(response).thenReturn(response);
                                 }
-                                return response;
+                                return Mono.just(response);
                             });
                 });
     }
@@ -263,8 +279,8 @@ public class FactureUseCaseImpl implements FactureUseCase {
     }
 
     @Override
-    public Flux<SellerAuthResponse> enrichFactures(UUID orgId) {
-        return sellerService.getSellersByOrganization(orgId);
+    public Flux<EnrichedFactureResponse> enrichFactures(UUID orgId) {
+        return factureJournalService.enrichFactures(orgId);
     }
 
     @Override
@@ -275,7 +291,52 @@ public class FactureUseCaseImpl implements FactureUseCase {
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Facture non trouvée: " + factureId)))
                 .flatMap(facture -> clientRepository.findById(facture.getIdClient())
                         .switchIfEmpty(Mono.error(new IllegalArgumentException("Client non trouvé pour la facture: " + factureId)))
-                        .flatMap(client -> pdfGeneratorService.generateFacturePdf(facture, client)));
+                        .flatMap(client -> facturePdfCache.get(facture, client)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<StoredPdf> getPdfFacture(UUID factureId) {
+        return factureRepository.findById(factureId)
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Facture non trouvée: " + factureId)))
+                .flatMap(facture -> clientRepository.findById(facture.getIdClient())
+                        .switchIfEmpty(Mono.error(new IllegalArgumentException("Client non trouvé pour la facture: " + factureId)))
+                        .flatMap(client -> facturePdfCache.getStored(facture, client)));
+    }
+
+    /**
+     * PDFs of the period's factures, rendered (or read from the PDF cache) on the batch lane with at
+     * most {@code archiveConcurrency} in flight, emitted in completion order. Each client is looked up
+     * once per archive. A facture whose PDF cannot be produced is left out and listed, with the
+     * cause, in a final {@value #ARCHIVE_ERRORS_ENTRY} entry, so the archive stays complete.
+     */
+    @Override
+    public Flux<ArchiveEntry> genererArchivePdf(LocalDate dateDebut, LocalDate dateFin) {
+        if (dateDebut == null || dateFin == null || dateFin.isBefore(dateDebut)) {
+            return Flux.error(new IllegalArgumentException("Période invalide: " + dateDebut + " - " + dateFin));
+        }
+        log.info("Génération de l'archive PDF des factures entre {} et {}", dateDebut, dateFin);
+        Map<UUID, Mono<Client>> clients = new ConcurrentHashMap<>();
+        Queue<String> errors = new ConcurrentLinkedQueue<>();
+        return factureRepository.findByDateFacturationBetween(dateDebut, dateFin)
+                .flatMap(facture -> {
+                            String name = "facture_" + (facture.getNumeroFacture() != null
+                                    ? facture.getNumeroFacture() : facture.getIdFacture());
+                            return clients.computeIfAbsent(facture.getIdClient(), idClient -> clientRepository.findById(idClient)
+                                            .switchIfEmpty(Mono.error(new IllegalArgumentException("Client non trouvé: " + idClient)))
+                                            .cache())
+                                    .flatMap(client -> facturePdfCache.get(facture, client))
+                                    .map(pdf -> new ArchiveEntry(name + ".pdf", pdf))
+                                    .onErrorResume(e -> {
+                                        log.warn("PDF de la facture {} exclu de l'archive: {}", name, e.getMessage());
+                                        errors.add(name + ": " + e.getMessage());
+                                        return Mono.empty();
+                                    });
+                        },
+                        archiveConcurrency, 1)
+                .concatWith(Mono.fromSupplier(() -> errors.isEmpty() ? null : new ArchiveEntry(ARCHIVE_ERRORS_ENTRY,
+                        String.join("\n", errors).getBytes(StandardCharsets.UTF_8))))
+                .contextWrite(PdfRenderScheduler.batchLane());
     }
 
     @Override
@@ -290,7 +351,7 @@ public class FactureUseCaseImpl implements FactureUseCase {
                     }
                     return clientRepository.findById(facture.getIdClient())
                             .switchIfEmpty(Mono.error(new IllegalArgumentException("Client non trouvé pour la facture: " + factureId)))
-                            .flatMap(client -> pdfGeneratorService.generateFacturePdf(facture, client)
+                            .flatMap(client -> facturePdfCache.get(facture, client)
                                     .flatMap(pdfBytes -> emailService.sendFactureCreationEmail(facture, facture.getEmailClient(), pdfBytes))
                                     .then(Mono.fromCallable(() -> {
                                         facture.setEnvoyeParEmail(true);
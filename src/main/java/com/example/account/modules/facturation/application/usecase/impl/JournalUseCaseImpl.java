@@ -43,11 +43,10 @@ public class JournalUseCaseImpl implements JournalUseCase {
                     }
                     return journalRepositoryPort.save(journal);
                 })
-                .map(savedJournal -> {
+                .flatMap(savedJournal -> {
                     JournalResponse response = journalMapper.toResponse(savedJournal);
-                    journalEventPort.publishJournalCreated(response);
                     log.info("Journal créé avec succès: {}", savedJournal.getIdJournal());
-                    return response;
+                    return journalEventPort.publishJournalCreated(response).thenReturn(response);
                 });
     }
 
@@ -62,11 +61,10 @@ public class JournalUseCaseImpl implements JournalUseCase {
                     journalMapper.updateEntityFromRequest(request, journal);
                     return journalRepositoryPort.save(journal);
                 })
-                .map(updatedJournal -> {
+                .flatMap(updatedJournal -> {
                     JournalResponse response = journalMapper.toResponse(updatedJournal);
-                    journalEventPort.publishJournalUpdated(response);
                     log.info("Journal mis à jour avec succès: {}", journalId);
-                    return response;
+                    return journalEventPort.publishJournalUpdated(response).thenReturn(response);
                 });
     }
 
@@ -132,7 +130,7 @@ public class JournalUseCaseImpl implements JournalUseCase {
                         return Mono.error(new IllegalArgumentException("Journal non trouvé: " + journalId));
                     }
                     return journalRepositoryPort.deleteById(journalId)
-                            .then(Mono.fromRunnable(() -> journalEventPort.publishJournalDeleted(journalId)));
+                            .then(Mono.defer(() -> journalEventPort.publishJournalDeleted(journalId)));
                 });
     }
 
@@ -59,9 +59,9 @@ public class NoteCreditUseCaseImpl implements NoteCreditUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<NoteCreditResponse> getAllNoteCredits() {
+    public Flux<NoteCreditResponse> getAllNoteCredits(boolean includeLines) {
         log.info("Récupération de toutes les notes de crédit");
-        return noteCreditRepository.findAll()
+        return (includeLines ? noteCreditRepository.findAll() : noteCreditRepository.findAllSummaries())
                 .map(noteCreditMapper::toResponse);
     }
 
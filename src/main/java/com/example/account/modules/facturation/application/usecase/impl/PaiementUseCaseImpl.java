@@ -1,5 +1,8 @@
 package com.example.account.modules.facturation.application.usecase.impl;
 
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.port.input.PaiementUseCase;
 import com.example.account.modules.facturation.domain.port.output.PaiementRepositoryPort;
 import com.example.account.modules.facturation.domain.port.output.PaiementEventPort;
@@ -12,7 +15,6 @@ import com.example.account.modules.facturation.model.enums.TypePaiement;
 import com.example.account.modules.facturation.domain.port.input.FactureUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -55,11 +57,10 @@ public class PaiementUseCaseImpl implements PaiementUseCase {
                     }
                     return updateFactureMono.then(Mono.just(savedPaiement));
                 })
-                .map(savedPaiement -> {
+                .flatMap(savedPaiement -> {
                     PaiementResponse response = paiementMapper.toResponse(savedPaiement);
-                    paiementEventPort.publishPaiementCreated(response);
                     log.info("Paiement créé avec succès: {}", savedPaiement.getIdPaiement());
-                    return response;
+                    return paiementEventPort.publishPaiementCreated(response).thenReturn(response);
                 });
     }
 
@@ -74,11 +75,10 @@ public class PaiementUseCaseImpl implements PaiementUseCase {
                     paiementMapper.updateEntityFromRequest(request, paiement);
                     return paiementRepositoryPort.save(paiement);
                 })
-                .map(updatedPaiement -> {
+                .flatMap(updatedPaiement -> {
                     PaiementResponse response = paiementMapper.toResponse(updatedPaiement);
-                    paiementEventPort.publishPaiementUpdated(response);
                     log.info("Paiement mis à jour avec succès: {}", paiementId);
-                    return response;
+                    return paiementEventPort.publishPaiementUpdated(response).thenReturn(response);
                 });
     }
 
@@ -101,12 +101,11 @@ public class PaiementUseCaseImpl implements PaiementUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<PaiementResponse> getAllPaiements(Pageable pageable) {
-        log.info("Récupération de tous les paiements avec pagination");
-        return paiementRepositoryPort.findAll()
-                .skip(pageable.getOffset())
-                .take(pageable.getPageSize())
-                .map(paiementMapper::toResponse);
+    public Mono<KeysetPage<PaiementResponse>> getPaiementsPage(String cursor, int size) {
+        log.info("Récupération d'une page de paiements (taille {})", size);
+        return ReactiveOrganizationContext.getOrganizationId()
+                .flatMap(orgId -> paiementRepositoryPort.findPage(orgId, KeysetCursor.decode(cursor, orgId), KeysetPage.clampSize(size)))
+                .map(page -> page.map(paiementMapper::toResponse));
     }
 
     @Override
@@ -151,7 +150,7 @@ public class PaiementUseCaseImpl implements PaiementUseCase {
                         return Mono.error(new IllegalArgumentException("Paiement non trouvé: " + paiementId));
                     }
                     return paiementRepositoryPort.deleteById(paiementId)
-                            .then(Mono.fromRunnable(() -> paiementEventPort.publishPaiementDeleted(paiementId)));
+                            .then(Mono.defer(() -> paiementEventPort.publishPaiementDeleted(paiementId)));
                 });
     }
 
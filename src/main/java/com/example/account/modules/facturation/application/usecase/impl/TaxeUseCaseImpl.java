@@ -1,5 +1,8 @@
 package com.example.account.modules.facturation.application.usecase.impl;
 
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.domain.port.input.TaxeUseCase;
 import com.example.account.modules.facturation.domain.port.output.TaxeRepositoryPort;
 import com.example.account.modules.facturation.domain.port.output.TaxeEventPort;
@@ -10,7 +13,6 @@ import com.example.account.modules.facturation.mapper.TaxeMapper;
 import com.example.account.modules.facturation.domain.model.Taxes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -44,11 +46,10 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
                     }
                     return taxeRepositoryPort.save(taxe);
                 })
-                .map(savedTaxe -> {
+                .flatMap(savedTaxe -> {
                     TaxeResponse response = taxeMapper.toResponse(savedTaxe);
-                    taxeEventPort.publishTaxeCreated(response);
                     log.info("Taxe créée avec succès: {}", savedTaxe.getIdTaxe());
-                    return response;
+                    return taxeEventPort.publishTaxeCreated(response).thenReturn(response);
                 });
     }
 
@@ -63,11 +64,10 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
                     taxeMapper.updateEntityFromRequest(request, taxe);
                     return taxeRepositoryPort.save(taxe);
                 })
-                .map(updatedTaxe -> {
+                .flatMap(updatedTaxe -> {
                     TaxeResponse response = taxeMapper.toResponse(updatedTaxe);
-                    taxeEventPort.publishTaxeUpdated(response);
                     log.info("Taxe mise à jour avec succès: {}", taxeId);
-                    return response;
+                    return taxeEventPort.publishTaxeUpdated(response).thenReturn(response);
                 });
     }
 
@@ -99,12 +99,11 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
 
     @Override
     @Transactional(readOnly = true)
-    public Flux<TaxeResponse> getAllTaxes(Pageable pageable) {
-        log.info("Récupération de toutes les taxes (paginée)");
-        return taxeRepositoryPort.findAll()
-                .skip(pageable.getOffset())
-                .take(pageable.getPageSize())
-                .map(taxeMapper::toResponse);
+    public Mono<KeysetPage<TaxeResponse>> getTaxesPage(String cursor, int size) {
+        log.info("Récupération d'une page de taxes (taille {})", size);
+        return ReactiveOrganizationContext.getOrganizationId()
+                .flatMap(orgId -> taxeRepositoryPort.findPage(orgId, KeysetCursor.decode(cursor, orgId), KeysetPage.clampSize(size)))
+                .map(page -> page.map(taxeMapper::toResponse));
     }
 
     @Override
@@ -173,7 +172,7 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
                         return Mono.error(new IllegalArgumentException("Taxe non trouvée: " + taxeId));
                     }
                     return taxeRepositoryPort.deleteById(taxeId)
-                            .then(Mono.fromRunnable(() -> taxeEventPort.publishTaxeDeleted(taxeId)));
+                            .then(Mono.defer(() -> taxeEventPort.publishTaxeDeleted(taxeId)));
                 });
     }
 
@@ -187,11 +186,10 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
                     taxe.setActif(true);
                     return taxeRepositoryPort.save(taxe);
                 })
-                .map(updatedTaxe -> {
+                .flatMap(updatedTaxe -> {
                     TaxeResponse response = taxeMapper.toResponse(updatedTaxe);
-                    taxeEventPort.publishTaxeUpdated(response);
                     log.info("Taxe activée avec succès: {}", taxeId);
-                    return response;
+                    return taxeEventPort.publishTaxeUpdated(response).thenReturn(response);
                 });
     }
 
@@ -205,11 +203,10 @@ public class TaxeUseCaseImpl implements TaxeUseCase {
                     taxe.setActif(false);
                     return taxeRepositoryPort.save(taxe);
                 })
-                .map(updatedTaxe -> {
+                .flatMap(updatedTaxe -> {
                     TaxeResponse response = taxeMapper.toResponse(updatedTaxe);
-                    taxeEventPort.publishTaxeUpdated(response);
                     log.info("Taxe désactivée avec succès: {}", taxeId);
-                    return response;
+                    return taxeEventPort.publishTaxeUpdated(response).thenReturn(response);
                 });
     }
 
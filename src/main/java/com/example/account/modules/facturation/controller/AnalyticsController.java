@@ -1,6 +1,7 @@
 package com.example.account.modules.facturation.controller;
 
 import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
+import com.example.account.modules.facturation.domain.port.output.FactureStatistiquesPort;
 import com.example.account.modules.tiers.domain.port.output.ClientRepositoryPort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +25,9 @@ public class AnalyticsController {
 
     private final FactureRepositoryPort factureRepository;
     private final ClientRepositoryPort clientRepository;
+    private final FactureStatistiquesPort statistiquesPort;
+
+    private static final int MAX_TOP_LIMIT = 100;
 
     @GetMapping("/ventes/periode")
     @Operation(summary = "Rapport des ventes par période")
@@ -56,15 +60,37 @@ public class AnalyticsController {
     }
 
     @GetMapping("/clients/top")
-    @Operation(summary = "Top clients par chiffre d'affaires")
+    @Operation(summary = "Top clients par chiffre d'affaires (12 derniers mois par défaut)")
     public Mono<ResponseEntity<List<Map<String, Object>>>> getTopClients(
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
 
         log.info("Récupération du top {} clients", limit);
 
-        // Implémentation simplifiée - à compléter avec une vraie requête
-        List<Map<String, Object>> topClients = new ArrayList<>();
+        LocalDate fin = endDate != null ? endDate : LocalDate.now();
+        LocalDate debut = startDate != null ? startDate : fin.minusYears(1).plusDays(1);
+        int top = Math.max(1, Math.min(limit, MAX_TOP_LIMIT));
+
+        return statistiquesPort.findTopClients(debut, fin, top)
+                .map(client -> {
+                    Map<String, Object> ligne = new LinkedHashMap<>();
+                    ligne.put("idClient", client.getIdClient());
+                    ligne.put("nomClient", client.getNomClient());
+                    ligne.put("nombreFactures", client.getNombreFactures());
+                    ligne.put("montantTotal", client.getMontantTotal());
+                    return ligne;
+                })
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/agregats/reconstruction")
+    @Operation(summary = "Reconstruire les agrégats journaliers de facturation de l'organisation")
+    public Mono<ResponseEntity<Map<String, Object>>> reconstruireAgregats() {
+        log.info("Reconstruction des agrégats journaliers de facturation");
 
-        return Mono.just(ResponseEntity.ok(topClients));
+        return statistiquesPort.reconstruireAgregatsJournaliers()
+                .map(lignes -> ResponseEntity.ok(Map.<String, Object>of("lignesAgregat", lignes)));
     }
 }
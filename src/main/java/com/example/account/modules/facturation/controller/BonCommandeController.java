@@ -1,5 +1,7 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.core.dto.KeysetResponses;
 import com.example.account.modules.facturation.dto.request.BonCommandeCreateRequest;
 import com.example.account.modules.facturation.dto.response.BonCommandeResponse;
 import com.example.account.modules.facturation.model.enums.StatusBonCommande;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -44,6 +47,15 @@ public class BonCommandeController {
         return bonCommandeService.getAllBonCommandes();
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Récupérer une page de bons de commande (pagination par curseur, en-tête X-Next-Cursor)")
+    public Mono<ResponseEntity<List<BonCommandeResponse>>> getBonCommandesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) int size) {
+        return bonCommandeService.getBonCommandesPage(cursor, size)
+                .map(KeysetResponses::ok);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer un bon de commande par ID")
     public Mono<ResponseEntity<BonCommandeResponse>> getBonCommandeById(@PathVariable UUID id) {
@@ -1,5 +1,6 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.dto.Streams;
 import com.example.account.modules.facturation.dto.request.BonLivraisonRequest;
 import com.example.account.modules.facturation.dto.response.BonLivraisonResponse;
 import com.example.account.modules.facturation.model.enums.StatutBonLivraison;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -46,16 +48,16 @@ public class BonLivraisonController {
                 .map(ResponseEntity::ok);
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Lister tous les bons de livraison")
     public Flux<BonLivraisonResponse> getAllBonLivraisons() {
-        return bonLivraisonService.getAllBonLivraisons();
+        return Streams.export(bonLivraisonService.getAllBonLivraisons());
     }
 
-    @GetMapping("/client/{idClient}")
+    @GetMapping(value = "/client/{idClient}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Lister les bons de livraison par client")
     public Flux<BonLivraisonResponse> getBonLivraisonsByClient(@PathVariable UUID idClient) {
-        return bonLivraisonService.getBonLivraisonsByClient(idClient);
+        return Streams.export(bonLivraisonService.getBonLivraisonsByClient(idClient));
     }
 
     @PatchMapping("/{id}/statut")
@@ -1,5 +1,9 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.core.dto.KeysetResponses;
+import com.example.account.modules.core.dto.Includes;
+import com.example.account.modules.core.dto.Streams;
 import com.example.account.modules.facturation.dto.request.DevisCreateRequest;
 import com.example.account.modules.facturation.dto.response.DevisResponse;
 import com.example.account.modules.facturation.dto.response.ExternalResponses.EnrichedDevisResponse;
@@ -13,12 +17,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -40,8 +46,8 @@ public class DevisController {
                 .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
-    @GetMapping("/enriched/{orgId}")
-    @Operation(summary = "Enrichir les devis")
+    @GetMapping(value = "/enriched/{orgId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Journal des devis enrichis avec le vendeur (flux NDJSON)")
     public Flux<EnrichedDevisResponse> getEnrichedDevis(@PathVariable UUID orgId) {
         log.info("Requête de récupération des devis enrichis pour l'organisation: {}", orgId);
         return devisJournalService.enrichDevis(orgId);
@@ -73,41 +79,52 @@ public class DevisController {
                 .map(ResponseEntity::ok);
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer tous les devis")
-    public Flux<DevisResponse> getAllDevis() {
+    public Flux<DevisResponse> getAllDevis(@RequestParam(required = false) String include) {
         log.info("Requête de récupération de tous les devis");
-        return devisService.getAllDevis();
+        return Streams.export(devisService.getAllDevis(Includes.lines(include)));
     }
 
-    @GetMapping("/client/{clientId}")
+    @GetMapping("/page")
+    @Operation(summary = "Récupérer une page de devis (pagination par curseur, en-tête X-Next-Cursor)")
+    public Mono<ResponseEntity<List<DevisResponse>>> getDevisPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) int size) {
+        log.info("Requête de récupération d'une page de devis");
+        return devisService.getDevisPage(cursor, size)
+                .map(KeysetResponses::ok);
+    }
+
+    @GetMapping(value = "/client/{clientId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les devis d'un client")
-    public Flux<DevisResponse> getDevisByClient(@PathVariable UUID clientId) {
+    public Flux<DevisResponse> getDevisByClient(@PathVariable UUID clientId, @RequestParam(required = false) String include) {
         log.info("Requête de récupération des devis du client: {}", clientId);
-        return devisService.getDevisByClient(clientId);
+        return Streams.export(devisService.getDevisByClient(clientId, Includes.lines(include)));
     }
 
-    @GetMapping("/statut/{statut}")
+    @GetMapping(value = "/statut/{statut}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les devis par statut")
-    public Flux<DevisResponse> getDevisByStatut(@PathVariable StatutDevis statut) {
+    public Flux<DevisResponse> getDevisByStatut(@PathVariable StatutDevis statut, @RequestParam(required = false) String include) {
         log.info("Requête de récupération des devis par statut: {}", statut);
-        return devisService.getDevisByStatut(statut);
+        return Streams.export(devisService.getDevisByStatut(statut, Includes.lines(include)));
     }
 
-    @GetMapping("/expires")
+    @GetMapping(value = "/expires", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les devis expirés")
     public Flux<DevisResponse> getDevisExpires() {
         log.info("Requête de récupération des devis expirés");
-        return devisService.getDevisExpires();
+        return Streams.export(devisService.getDevisExpires());
     }
 
-    @GetMapping("/periode")
+    @GetMapping(value = "/periode", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les devis par période")
     public Flux<DevisResponse> getDevisByPeriode(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateDebut,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFin) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFin,
+            @RequestParam(required = false) String include) {
         log.info("Requête de récupération des devis entre {} et {}", dateDebut, dateFin);
-        return devisService.getDevisByPeriode(dateDebut, dateFin);
+        return Streams.export(devisService.getDevisByPeriode(dateDebut, dateFin, Includes.lines(include)));
     }
 
     @DeleteMapping("/{devisId}")
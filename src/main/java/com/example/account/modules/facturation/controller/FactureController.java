@@ -1,7 +1,13 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.core.dto.KeysetResponses;
+import com.example.account.modules.core.dto.Includes;
+import com.example.account.modules.core.dto.Streams;
+import com.example.account.modules.core.dto.ZipStream;
 import com.example.account.modules.facturation.dto.request.FactureCreateRequest;
 import com.example.account.modules.facturation.dto.response.FactureResponse;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.EnrichedFactureResponse;
 import com.example.account.modules.facturation.model.enums.StatutFacture;
 import com.example.account.modules.facturation.domain.port.input.FactureUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +15,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -18,6 +30,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -75,48 +88,66 @@ public class FactureController {
                 .map(ResponseEntity::ok);
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer toutes les factures")
-    public Flux<FactureResponse> getAllFactures() {
+    public Flux<FactureResponse> getAllFactures(@RequestParam(required = false) String include) {
         log.info("Requête de récupération de toutes les factures");
-        return factureService.getAllFactures();
+        return Streams.export(factureService.getAllFactures(Includes.lines(include)));
     }
 
-    @GetMapping("/client/{clientId}")
+    @GetMapping("/page")
+    @Operation(summary = "Récupérer une page de factures (pagination par curseur, en-tête X-Next-Cursor)")
+    public Mono<ResponseEntity<List<FactureResponse>>> getFacturesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) int size) {
+        log.info("Requête de récupération d'une page de factures");
+        return factureService.getFacturesPage(cursor, size)
+                .map(KeysetResponses::ok);
+    }
+
+    @GetMapping(value = "/enriched/{orgId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Journal des factures enrichies avec le vendeur (flux NDJSON)")
+    public Flux<EnrichedFactureResponse> getEnrichedFactures(@PathVariable UUID orgId) {
+        log.info("Requête de récupération des factures enrichies pour l'organisation: {}", orgId);
+        return factureService.enrichFactures(orgId);
+    }
+
+    @GetMapping(value = "/client/{clientId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les factures d'un client")
-    public Flux<FactureResponse> getFacturesByClient(@PathVariable UUID clientId) {
+    public Flux<FactureResponse> getFacturesByClient(@PathVariable UUID clientId, @RequestParam(required = false) String include) {
         log.info("Requête de récupération des factures du client: {}", clientId);
-        return factureService.getFacturesByClient(clientId);
+        return Streams.export(factureService.getFacturesByClient(clientId, Includes.lines(include)));
     }
 
-    @GetMapping("/etat/{etat}")
+    @GetMapping(value = "/etat/{etat}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les factures par état")
-    public Flux<FactureResponse> getFacturesByEtat(@PathVariable StatutFacture etat) {
+    public Flux<FactureResponse> getFacturesByEtat(@PathVariable StatutFacture etat, @RequestParam(required = false) String include) {
         log.info("Requête de récupération des factures par état: {}", etat);
-        return factureService.getFacturesByEtat(etat);
+        return Streams.export(factureService.getFacturesByEtat(etat, Includes.lines(include)));
     }
 
-    @GetMapping("/retard")
+    @GetMapping(value = "/retard", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les factures en retard")
-    public Flux<FactureResponse> getFacturesEnRetard() {
+    public Flux<FactureResponse> getFacturesEnRetard(@RequestParam(required = false) String include) {
         log.info("Requête de récupération des factures en retard");
-        return factureService.getFacturesEnRetard();
+        return Streams.export(factureService.getFacturesEnRetard(Includes.lines(include)));
     }
 
-    @GetMapping("/non-payees")
+    @GetMapping(value = "/non-payees", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les factures non payées")
-    public Flux<FactureResponse> getFacturesNonPayees() {
+    public Flux<FactureResponse> getFacturesNonPayees(@RequestParam(required = false) String include) {
         log.info("Requête de récupération des factures non payées");
-        return factureService.getFacturesNonPayees();
+        return Streams.export(factureService.getFacturesNonPayees(Includes.lines(include)));
     }
 
-    @GetMapping("/periode")
+    @GetMapping(value = "/periode", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les factures par période")
     public Flux<FactureResponse> getFacturesByPeriode(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateDebut,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFin) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFin,
+            @RequestParam(required = false) String include) {
         log.info("Requête de récupération des factures entre {} et {}", dateDebut, dateFin);
-        return factureService.getFacturesByPeriode(dateDebut, dateFin);
+        return Streams.export(factureService.getFacturesByPeriode(dateDebut, dateFin, Includes.lines(include)));
     }
 
     @DeleteMapping("/{factureId}")
@@ -153,16 +184,40 @@ public class FactureController {
                 .map(ResponseEntity::ok);
     }
 
+    @GetMapping(value = "/pdf-archive", produces = "application/zip")
+    @Operation(summary = "Télécharger les PDF des factures d'une période (archive ZIP en flux)")
+    public ResponseEntity<Flux<DataBuffer>> downloadPdfArchive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Requête d'archive PDF des factures entre {} et {}", from, to);
+        return ResponseEntity.ok()
+                .header("Content-Type", "application/zip")
+                .header("Content-Disposition", "attachment; filename=factures_" + from + "_" + to + ".zip")
+                .body(ZipStream.write(factureService.genererArchivePdf(from, to), DefaultDataBufferFactory.sharedInstance));
+    }
+
+    /**
+     * Served from the PDF cache file: zero-copy transfer, Range requests, and 304 on a matching
+     * If-None-Match / If-Modified-Since (the ETag is the content key of the facture version).
+     */
     @GetMapping("/{factureId}/pdf")
     @Operation(summary = "Télécharger le PDF d'une facture")
-    public Mono<ResponseEntity<byte[]>> downloadFacturePdf(@PathVariable UUID factureId) {
+    public Mono<ResponseEntity<Resource>> downloadFacturePdf(@PathVariable UUID factureId) {
         log.info("Requête de téléchargement du PDF de la facture: {}", factureId);
 
-        return factureService.genererPdfFacture(factureId)
-                .map(pdfBytes -> ResponseEntity.ok()
-                        .header("Content-Type", "application/pdf")
-                        .header("Content-Disposition", "attachment; filename=facture_" + factureId + ".pdf")
-                        .body(pdfBytes));
+        return factureService.getPdfFacture(factureId)
+                .map(pdf -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_PDF)
+                            .header("Content-Disposition", "attachment; filename=facture_" + factureId + ".pdf")
+                            .eTag(pdf.key());
+                    if (pdf.lastModified() != null) {
+                        response.lastModified(pdf.lastModified());
+                    }
+                    return response.body(pdf.file() != null
+                            ? new FileSystemResource(pdf.file())
+                            : new ByteArrayResource(pdf.content()));
+                });
     }
 
     @PostMapping("/{factureId}/envoyer-email")
@@ -1,5 +1,6 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.dto.Includes;
 import com.example.account.modules.facturation.dto.request.ProformaInvoiceRequest;
 import com.example.account.modules.facturation.dto.response.ProformaInvoiceResponse;
 import com.example.account.modules.facturation.model.enums.StatutProforma;
@@ -47,14 +48,14 @@ public class FactureProformaController {
 
     @GetMapping
     @Operation(summary = "Lister toutes les factures proforma")
-    public Flux<ProformaInvoiceResponse> getAllProformas() {
-        return proformaService.getAllProformas();
+    public Flux<ProformaInvoiceResponse> getAllProformas(@RequestParam(required = false) String include) {
+        return proformaService.getAllProformas(Includes.lines(include));
     }
 
     @GetMapping("/client/{idClient}")
     @Operation(summary = "Lister les factures proforma par client")
-    public Flux<ProformaInvoiceResponse> getProformasByClient(@PathVariable UUID idClient) {
-        return proformaService.getProformasByClient(idClient);
+    public Flux<ProformaInvoiceResponse> getProformasByClient(@PathVariable UUID idClient, @RequestParam(required = false) String include) {
+        return proformaService.getProformasByClient(idClient, Includes.lines(include));
     }
 
     @PatchMapping("/{id}/statut")
@@ -1,5 +1,6 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.dto.Includes;
 import com.example.account.modules.facturation.dto.request.NoteCreditRequest;
 import com.example.account.modules.facturation.dto.response.NoteCreditResponse;
 import com.example.account.modules.facturation.domain.port.input.NoteCreditUseCase;
@@ -37,8 +38,8 @@ public class NoteCreditController {
     }
 
     @GetMapping
-    public Flux<NoteCreditResponse> getAllNoteCredits() {
-        return noteCreditService.getAllNoteCredits();
+    public Flux<NoteCreditResponse> getAllNoteCredits(@RequestParam(required = false) String include) {
+        return noteCreditService.getAllNoteCredits(Includes.lines(include));
     }
 
     @DeleteMapping("/{id}")
@@ -1,5 +1,8 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.core.dto.KeysetResponses;
+import com.example.account.modules.core.dto.Streams;
 import com.example.account.modules.facturation.dto.request.PaiementCreateRequest;
 import com.example.account.modules.facturation.dto.request.PaiementUpdateRequest;
 import com.example.account.modules.facturation.dto.response.PaiementResponse;
@@ -9,11 +12,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -40,10 +45,19 @@ public class PaiementController {
                 .map(ResponseEntity::ok);
     }
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer tous les paiements")
     public Flux<PaiementResponse> getAllPaiements() {
-        return paiementService.getAllPaiements();
+        return Streams.export(paiementService.getAllPaiements());
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Récupérer une page de paiements (pagination par curseur, en-tête X-Next-Cursor)")
+    public Mono<ResponseEntity<List<PaiementResponse>>> getPaiementsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) int size) {
+        return paiementService.getPaiementsPage(cursor, size)
+                .map(KeysetResponses::ok);
     }
 
     @GetMapping("/{id}")
@@ -53,16 +67,16 @@ public class PaiementController {
                 .map(ResponseEntity::ok);
     }
 
-    @GetMapping("/client/{clientId}")
+    @GetMapping(value = "/client/{clientId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les paiements d'un client")
     public Flux<PaiementResponse> getPaiementsByClient(@PathVariable UUID clientId) {
-        return paiementService.getPaiementsByClient(clientId);
+        return Streams.export(paiementService.getPaiementsByClient(clientId));
     }
 
-    @GetMapping("/facture/{factureId}")
+    @GetMapping(value = "/facture/{factureId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
     @Operation(summary = "Récupérer les paiements d'une facture")
     public Flux<PaiementResponse> getPaiementsByFacture(@PathVariable UUID factureId) {
-        return paiementService.getPaiementsByFacture(factureId);
+        return Streams.export(paiementService.getPaiementsByFacture(factureId));
     }
 
     @DeleteMapping("/{id}")
@@ -1,5 +1,7 @@
 package com.example.account.modules.facturation.controller;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.core.dto.KeysetResponses;
 import com.example.account.modules.facturation.dto.request.TaxeCreateRequest;
 import com.example.account.modules.facturation.dto.request.TaxeUpdateRequest;
 import com.example.account.modules.facturation.dto.response.TaxeResponse;
@@ -16,6 +18,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -68,6 +71,16 @@ public class TaxeController {
         return taxeService.getAllTaxes();
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Récupérer une page de taxes (pagination par curseur, en-tête X-Next-Cursor)")
+    public Mono<ResponseEntity<List<TaxeResponse>>> getTaxesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) int size) {
+        log.info("Requête de récupération d'une page de taxes");
+        return taxeService.getTaxesPage(cursor, size)
+                .map(KeysetResponses::ok);
+    }
+
     @GetMapping("/actives")
     @Operation(summary = "Récupérer toutes les taxes actives")
     public Flux<TaxeResponse> getActiveTaxes() {
@@ -0,0 +1,20 @@
+package com.example.account.modules.facturation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Chiffre d'affaires d'un mois (periode au format yyyy-MM).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChiffreAffairesMensuel {
+    private String periode;
+    private BigDecimal montant;
+}
@@ -0,0 +1,23 @@
+package com.example.account.modules.facturation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Chiffre d'affaires facturé à un client sur une période.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientChiffreAffaires {
+    private UUID idClient;
+    private String nomClient;
+    private Long nombreFactures;
+    private BigDecimal montantTotal;
+}
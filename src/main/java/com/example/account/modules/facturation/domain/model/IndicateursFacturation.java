@@ -0,0 +1,30 @@
+package com.example.account.modules.facturation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Indicateurs de facturation de l'organisation à une date de référence.
+ * Le mois précédent est comparé sur la même durée écoulée que le mois courant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IndicateursFacturation {
+    private BigDecimal chiffreAffairesMois;
+    private BigDecimal chiffreAffairesMoisPrecedent;
+    private BigDecimal chiffreAffairesAnnee;
+    private Long nombreFactures;
+    private Long nombreFacturesPayees;
+    private Long nombreFacturesEnAttente;
+    private BigDecimal montantFacturesEnAttente;
+    private BigDecimal montantFacturesEnRetard;
+    private Long nombreClients;
+    private Long nombreClientsAnnee;
+    private Long nombreNouveauxClients;
+}
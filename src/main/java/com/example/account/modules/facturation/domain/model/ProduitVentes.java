@@ -0,0 +1,22 @@
+package com.example.account.modules.facturation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Ventes d'un produit sur une période, agrégées depuis les lignes de facture.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProduitVentes {
+    private String idProduit;
+    private String nomProduit;
+    private BigDecimal quantiteVendue;
+    private BigDecimal chiffreAffaires;
+}
@@ -0,0 +1,11 @@
+package com.example.account.modules.facturation.domain.model;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A rendered PDF: its content key (usable as a strong ETag) and either the cache file or, when
+ * the disk tier could not keep it, the bytes.
+ */
+public record StoredPdf(String key, Path file, byte[] content, Instant lastModified) {
+}
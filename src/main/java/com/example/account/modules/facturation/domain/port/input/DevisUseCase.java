@@ -1,10 +1,10 @@
 package com.example.account.modules.facturation.domain.port.input;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.dto.request.DevisCreateRequest;
 import com.example.account.modules.facturation.dto.response.DevisResponse;
 import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
 import com.example.account.modules.facturation.model.enums.StatutDevis;
-import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,12 +16,12 @@ public interface DevisUseCase {
     Mono<DevisResponse> updateDevis(UUID devisId, DevisCreateRequest request);
     Mono<DevisResponse> getDevisById(UUID devisId);
     Mono<DevisResponse> getDevisByNumero(String numeroDevis);
-    Flux<DevisResponse> getAllDevis();
-    Flux<DevisResponse> getAllDevis(Pageable pageable);
-    Flux<DevisResponse> getDevisByClient(UUID clientId);
-    Flux<DevisResponse> getDevisByStatut(StatutDevis statut);
+    Flux<DevisResponse> getAllDevis(boolean includeLines);
+    Mono<KeysetPage<DevisResponse>> getDevisPage(String cursor, int size);
+    Flux<DevisResponse> getDevisByClient(UUID clientId, boolean includeLines);
+    Flux<DevisResponse> getDevisByStatut(StatutDevis statut, boolean includeLines);
     Flux<DevisResponse> getDevisExpires();
-    Flux<DevisResponse> getDevisByPeriode(LocalDate dateDebut, LocalDate dateFin);
+    Flux<DevisResponse> getDevisByPeriode(LocalDate dateDebut, LocalDate dateFin, boolean includeLines);
     Mono<Void> deleteDevis(UUID devisId);
     Mono<DevisResponse> accepterDevis(UUID devisId);
     Mono<DevisResponse> refuserDevis(UUID devisId, String motifRefus);
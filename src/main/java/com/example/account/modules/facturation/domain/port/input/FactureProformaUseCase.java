@@ -11,8 +11,8 @@ import java.util.UUID;
 public interface FactureProformaUseCase {
     Mono<ProformaInvoiceResponse> createProforma(ProformaInvoiceRequest request);
     Mono<ProformaInvoiceResponse> getProformaById(UUID id);
-    Flux<ProformaInvoiceResponse> getAllProformas();
-    Flux<ProformaInvoiceResponse> getProformasByClient(UUID idClient);
+    Flux<ProformaInvoiceResponse> getAllProformas(boolean includeLines);
+    Flux<ProformaInvoiceResponse> getProformasByClient(UUID idClient, boolean includeLines);
     Mono<Void> deleteProforma(UUID id);
     Mono<ProformaInvoiceResponse> updateStatut(UUID id, StatutProforma nouveauStatut);
     Mono<ProformaInvoiceResponse> updateFactureProforma(UUID id, ProformaInvoiceRequest request);
@@ -1,10 +1,12 @@
 package com.example.account.modules.facturation.domain.port.input;
 
+import com.example.account.modules.core.domain.model.ArchiveEntry;
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.facturation.domain.model.StoredPdf;
 import com.example.account.modules.facturation.dto.request.FactureCreateRequest;
 import com.example.account.modules.facturation.dto.response.FactureResponse;
-import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.EnrichedFactureResponse;
 import com.example.account.modules.facturation.model.enums.StatutFacture;
-import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,20 +20,22 @@ public interface FactureUseCase {
     Mono<FactureResponse> getFactureById(UUID factureId);
     Mono<Void> accountFacture(UUID factureId);
     Mono<FactureResponse> getFactureByNumero(String numeroFacture);
-    Flux<FactureResponse> getAllFactures();
-    Flux<FactureResponse> getAllFactures(Pageable pageable);
-    Flux<FactureResponse> getFacturesByClient(UUID clientId);
-    Flux<FactureResponse> getFacturesByEtat(StatutFacture etat);
-    Flux<FactureResponse> getFacturesEnRetard();
-    Flux<FactureResponse> getFacturesNonPayees();
-    Flux<FactureResponse> getFacturesByPeriode(LocalDate dateDebut, LocalDate dateFin);
+    Flux<FactureResponse> getAllFactures(boolean includeLines);
+    Mono<KeysetPage<FactureResponse>> getFacturesPage(String cursor, int size);
+    Flux<FactureResponse> getFacturesByClient(UUID clientId, boolean includeLines);
+    Flux<FactureResponse> getFacturesByEtat(StatutFacture etat, boolean includeLines);
+    Flux<FactureResponse> getFacturesEnRetard(boolean includeLines);
+    Flux<FactureResponse> getFacturesNonPayees(boolean includeLines);
+    Flux<FactureResponse> getFacturesByPeriode(LocalDate dateDebut, LocalDate dateFin, boolean includeLines);
     Mono<Void> deleteFacture(UUID factureId);
     Mono<FactureResponse> marquerCommePaye(UUID factureId);
     Mono<FactureResponse> enregistrerPaiement(UUID factureId, BigDecimal montantPaye);
     Mono<Long> countByEtat(StatutFacture etat);
     Mono<Void> envoyerRappelPaiement(UUID factureId);
-    Flux<SellerAuthResponse> enrichFactures(UUID orgId);
+    Flux<EnrichedFactureResponse> enrichFactures(UUID orgId);
     Mono<byte[]> genererPdfFacture(UUID factureId);
+    Mono<StoredPdf> getPdfFacture(UUID factureId);
+    Flux<ArchiveEntry> genererArchivePdf(LocalDate dateDebut, LocalDate dateFin);
     Mono<Void> envoyerFactureParEmail(UUID factureId);
     Mono<String> genererEtSauvegarderPdfFacture(UUID factureId);
 }
@@ -11,6 +11,6 @@ public interface NoteCreditUseCase {
     Mono<NoteCreditResponse> createNoteCredit(NoteCreditRequest request);
     Mono<NoteCreditResponse> updateNoteCredit(UUID id, NoteCreditRequest request);
     Mono<NoteCreditResponse> getNoteCreditById(UUID id);
-    Flux<NoteCreditResponse> getAllNoteCredits();
+    Flux<NoteCreditResponse> getAllNoteCredits(boolean includeLines);
     Mono<Void> deleteNoteCredit(UUID id);
 }
@@ -1,10 +1,10 @@
 package com.example.account.modules.facturation.domain.port.input;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.dto.request.PaiementCreateRequest;
 import com.example.account.modules.facturation.dto.request.PaiementUpdateRequest;
 import com.example.account.modules.facturation.dto.response.PaiementResponse;
 import com.example.account.modules.facturation.model.enums.TypePaiement;
-import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -17,7 +17,7 @@ public interface PaiementUseCase {
     Mono<PaiementResponse> updatePaiement(UUID paiementId, PaiementUpdateRequest request);
     Mono<PaiementResponse> getPaiementById(UUID paiementId);
     Flux<PaiementResponse> getAllPaiements();
-    Flux<PaiementResponse> getAllPaiements(Pageable pageable);
+    Mono<KeysetPage<PaiementResponse>> getPaiementsPage(String cursor, int size);
     Flux<PaiementResponse> getPaiementsByClient(UUID clientId);
     Flux<PaiementResponse> getPaiementsByFacture(UUID factureId);
     Flux<PaiementResponse> getPaiementsByModePaiement(TypePaiement modePaiement);
@@ -1,9 +1,9 @@
 package com.example.account.modules.facturation.domain.port.input;
 
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.dto.request.TaxeCreateRequest;
 import com.example.account.modules.facturation.dto.request.TaxeUpdateRequest;
 import com.example.account.modules.facturation.dto.response.TaxeResponse;
-import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,7 +16,7 @@ public interface TaxeUseCase {
     Mono<TaxeResponse> getTaxeById(UUID taxeId);
     Mono<TaxeResponse> getTaxeByNom(String nomTaxe);
     Flux<TaxeResponse> getAllTaxes();
-    Flux<TaxeResponse> getAllTaxes(Pageable pageable);
+    Mono<KeysetPage<TaxeResponse>> getTaxesPage(String cursor, int size);
     Flux<TaxeResponse> getActiveTaxes();
     Flux<TaxeResponse> getTaxesByType(String typeTaxe);
     Flux<TaxeResponse> getActiveTaxesByType(String typeTaxe);
@@ -1,12 +1,13 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.dto.response.DevisResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
 public interface DevisEventPort {
-    void publishDevisCreated(DevisResponse devis);
-    void publishDevisUpdated(DevisResponse devis);
-    void publishDevisDeleted(UUID devisId);
-    void publishDevisAccepted(DevisResponse devis);
+    Mono<Void> publishDevisCreated(DevisResponse devis);
+    Mono<Void> publishDevisUpdated(DevisResponse devis);
+    Mono<Void> publishDevisDeleted(UUID devisId);
+    Mono<Void> publishDevisAccepted(DevisResponse devis);
 }
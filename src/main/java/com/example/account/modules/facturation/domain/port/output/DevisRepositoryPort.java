@@ -2,6 +2,8 @@ package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.domain.model.Devis;
 import com.example.account.modules.facturation.model.enums.StatutDevis;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -22,4 +24,12 @@ public interface DevisRepositoryPort {
     Mono<Void> deleteById(UUID id);
     Mono<Boolean> existsById(UUID id);
     Flux<Devis> findAll();
+
+    // Header-only reads for list screens: lignesDevis is not loaded and stays null.
+    Flux<Devis> findAllSummaries();
+    Flux<Devis> findSummariesByIdClient(UUID idClient);
+    Flux<Devis> findSummariesByStatut(StatutDevis statut);
+    Flux<Devis> findSummariesByDateCreationBetween(LocalDate start, LocalDate end);
+
+    Mono<KeysetPage<Devis>> findPage(UUID organizationId, KeysetCursor after, int limit);
 }
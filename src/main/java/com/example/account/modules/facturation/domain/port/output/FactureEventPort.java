@@ -1,11 +1,12 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.dto.response.FactureResponse;
+import reactor.core.publisher.Mono;
 import java.util.UUID;
 
 public interface FactureEventPort {
-    void publishFactureCreated(FactureResponse facture);
-    void publishFactureUpdated(FactureResponse facture);
-    void publishFactureDeleted(UUID factureId);
-    void publishFacturePaid(FactureResponse facture);
+    Mono<Void> publishFactureCreated(FactureResponse facture);
+    Mono<Void> publishFactureUpdated(FactureResponse facture);
+    Mono<Void> publishFactureDeleted(UUID factureId);
+    Mono<Void> publishFacturePaid(FactureResponse facture);
 }
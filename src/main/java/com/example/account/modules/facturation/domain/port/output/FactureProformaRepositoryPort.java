@@ -16,4 +16,8 @@ public interface FactureProformaRepositoryPort {
     Mono<FactureProforma> save(FactureProforma proforma);
     Mono<FactureProforma> insert(FactureProforma proforma);
     Flux<FactureProforma> findAll();
+
+    // Header-only reads for list screens: lignesFactureProforma is not loaded and stays null.
+    Flux<FactureProforma> findAllSummaries();
+    Flux<FactureProforma> findSummariesByIdClient(UUID idClient);
 }
@@ -2,6 +2,8 @@ package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.domain.model.Facture;
 import com.example.account.modules.facturation.model.enums.StatutFacture;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -37,5 +39,15 @@ public interface FactureRepositoryPort {
     Mono<Void> deleteById(UUID id);
     Mono<Boolean> existsById(UUID id);
     Flux<Facture> findAll();
+
+    // Header-only reads for list screens: lignesFacture is not loaded and stays null.
+    Flux<Facture> findAllSummaries();
+    Flux<Facture> findSummariesByIdClient(UUID idClient);
+    Flux<Facture> findSummariesByEtat(StatutFacture etat);
+    Flux<Facture> findOverdueSummaries(LocalDate currentDate);
+    Flux<Facture> findUnpaidSummaries();
+    Flux<Facture> findSummariesByDateFacturationBetween(LocalDate startDate, LocalDate endDate);
+
+    Mono<KeysetPage<Facture>> findPage(UUID organizationId, KeysetCursor after, int limit);
     Mono<Long> count();
 }
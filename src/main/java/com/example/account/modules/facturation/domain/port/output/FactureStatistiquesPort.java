@@ -0,0 +1,39 @@
+package com.example.account.modules.facturation.domain.port.output;
+
+import com.example.account.modules.facturation.domain.model.ChiffreAffairesMensuel;
+import com.example.account.modules.facturation.domain.model.ClientChiffreAffaires;
+import com.example.account.modules.facturation.domain.model.IndicateursFacturation;
+import com.example.account.modules.facturation.domain.model.ProduitVentes;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Agrégats de facturation calculés côté base pour l'organisation courante.
+ * Les factures en brouillon ou annulées ne comptent pas dans le chiffre d'affaires.
+ * Les bornes de période sont inclusives.
+ */
+public interface FactureStatistiquesPort {
+
+    /**
+     * Tous les indicateurs du tableau de bord en une seule requête.
+     */
+    Mono<IndicateursFacturation> findIndicateurs(LocalDate dateReference);
+
+    Flux<ClientChiffreAffaires> findTopClients(LocalDate startDate, LocalDate endDate, int limit);
+
+    Flux<ProduitVentes> findTopProduits(LocalDate startDate, LocalDate endDate, int limit);
+
+    /**
+     * Série continue des {@code nombreMois} derniers mois jusqu'au mois de {@code finPeriode} inclus,
+     * les mois sans facture valant zéro.
+     */
+    Flux<ChiffreAffairesMensuel> findChiffreAffairesMensuel(LocalDate finPeriode, int nombreMois);
+
+    /**
+     * Recalcule entièrement les agrégats journaliers de l'organisation courante
+     * et retourne le nombre de lignes d'agrégat écrites.
+     */
+    Mono<Long> reconstruireAgregatsJournaliers();
+}
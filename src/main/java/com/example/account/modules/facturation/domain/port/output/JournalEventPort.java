@@ -1,11 +1,12 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.dto.response.JournalResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
 public interface JournalEventPort {
-    void publishJournalCreated(JournalResponse journal);
-    void publishJournalUpdated(JournalResponse journal);
-    void publishJournalDeleted(UUID journalId);
+    Mono<Void> publishJournalCreated(JournalResponse journal);
+    Mono<Void> publishJournalUpdated(JournalResponse journal);
+    Mono<Void> publishJournalDeleted(UUID journalId);
 }
@@ -17,5 +17,9 @@ public interface NoteCreditRepositoryPort {
     Mono<NoteCredit> save(NoteCredit noteCredit);
     Mono<NoteCredit> insert(NoteCredit noteCredit);
     Flux<NoteCredit> findAll();
+
+    // Header-only read for list screens: lignesNoteCredit is not loaded and stays null.
+    Flux<NoteCredit> findAllSummaries();
+
     Mono<Void> delete(NoteCredit noteCredit);
 }
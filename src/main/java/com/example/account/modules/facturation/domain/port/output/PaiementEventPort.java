@@ -1,11 +1,12 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.dto.response.PaiementResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
 public interface PaiementEventPort {
-    void publishPaiementCreated(PaiementResponse paiement);
-    void publishPaiementUpdated(PaiementResponse paiement);
-    void publishPaiementDeleted(UUID paiementId);
+    Mono<Void> publishPaiementCreated(PaiementResponse paiement);
+    Mono<Void> publishPaiementUpdated(PaiementResponse paiement);
+    Mono<Void> publishPaiementDeleted(UUID paiementId);
 }
@@ -2,6 +2,8 @@ package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.domain.model.Paiement;
 import com.example.account.modules.facturation.model.enums.TypePaiement;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -12,6 +14,7 @@ import java.util.UUID;
 public interface PaiementRepositoryPort {
     Mono<Paiement> findById(UUID id);
     Flux<Paiement> findAll();
+    Mono<KeysetPage<Paiement>> findPage(UUID organizationId, KeysetCursor after, int limit);
     Flux<Paiement> findByIdClient(UUID idClient);
     Flux<Paiement> findByIdFacture(UUID idFacture);
     Flux<Paiement> findByModePaiement(TypePaiement mode);
@@ -1,11 +1,12 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.dto.response.TaxeResponse;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
 public interface TaxeEventPort {
-    void publishTaxeCreated(TaxeResponse taxe);
-    void publishTaxeUpdated(TaxeResponse taxe);
-    void publishTaxeDeleted(UUID taxeId);
+    Mono<Void> publishTaxeCreated(TaxeResponse taxe);
+    Mono<Void> publishTaxeUpdated(TaxeResponse taxe);
+    Mono<Void> publishTaxeDeleted(UUID taxeId);
 }
@@ -1,6 +1,8 @@
 package com.example.account.modules.facturation.domain.port.output;
 
 import com.example.account.modules.facturation.domain.model.Taxes;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -11,6 +13,7 @@ public interface TaxeRepositoryPort {
     Mono<Taxes> findById(UUID id);
     Mono<Taxes> findByNomTaxe(String nomTaxe);
     Flux<Taxes> findAll();
+    Mono<KeysetPage<Taxes>> findPage(UUID organizationId, KeysetCursor after, int limit);
     Flux<Taxes> findAllActiveTaxes();
     Flux<Taxes> findByTypeTaxe(String typeTaxe);
     Flux<Taxes> findActiveByTypeTaxe(String typeTaxe);
@@ -0,0 +1,31 @@
+package com.example.account.modules.facturation.dto.response.ExternalResponses;
+
+import com.example.account.modules.facturation.dto.response.FactureResponse;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Invoice journal entry: the invoice itself plus the organization, agency and sales point
+ * of the seller who created it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrichedFactureResponse {
+
+    @JsonUnwrapped
+    private FactureResponse facture;
+
+    private String sellerUsername;
+    private String organizationName;
+    private UUID agencyId;
+    private String agencyName;
+    private UUID salesPointId;
+    private String salesPointName;
+}
@@ -3,6 +3,10 @@ package com.example.account.modules.facturation.service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import com.example.account.modules.core.adapter.output.persistence.KeysetQuery;
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
 import com.example.account.modules.facturation.dto.request.BonCommandeCreateRequest;
 import com.example.account.modules.facturation.dto.request.BonCommandeUpdateRequest;
 import com.example.account.modules.facturation.dto.response.BonCommandeResponse;
@@ -13,9 +17,8 @@ import com.example.account.modules.facturation.repository.BonCommandeRepository;
 import com.example.account.modules.facturation.service.producer.BonCommandeEventProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,11 +48,10 @@ public class BonCommandeService {
         }
 
         return entityTemplate.insert(bonCommande)
-                .map(savedBonCommande -> {
+                .flatMap(savedBonCommande -> {
                     BonCommandeResponse response = bonCommandeMapper.toResponse(savedBonCommande);
-                    bonCommandeEventProducer.publishBonCommandeCreated(response);
                     log.info("Bon de commande créé avec succès: {}", savedBonCommande.getIdBonCommande());
-                    return response;
+                    return bonCommandeEventProducer.publishBonCommandeCreated(response).thenReturn(response);
                 });
     }
 
@@ -63,11 +65,10 @@ public class BonCommandeService {
                     bonCommandeMapper.updateEntityFromRequest(request, bonCommande);
                     return bonCommandeRepository.save(bonCommande);
                 })
-                .map(updatedBonCommande -> {
+                .flatMap(updatedBonCommande -> {
                     BonCommandeResponse response = bonCommandeMapper.toResponse(updatedBonCommande);
-                    bonCommandeEventProducer.publishBonCommandeUpdated(response);
                     log.info("Bon de commande mis à jour avec succès: {}", bonCommandeId);
-                    return response;
+                    return bonCommandeEventProducer.publishBonCommandeUpdated(response).thenReturn(response);
                 });
     }
 
@@ -97,12 +98,17 @@ public class BonCommandeService {
     }
 
     @Transactional(readOnly = true)
-    public Flux<BonCommandeResponse> getAllBonCommandes(Pageable pageable) {
-        log.info("Récupération de tous les bons de commande avec pagination");
-        return bonCommandeRepository.findAll()
-                .skip(pageable.getOffset())
-                .take(pageable.getPageSize())
-                .map(bonCommandeMapper::toResponse);
+    public Mono<KeysetPage<BonCommandeResponse>> getBonCommandesPage(String cursor, int size) {
+        log.info("Récupération d'une page de bons de commande (taille {})", size);
+        int limit = KeysetPage.clampSize(size);
+        return ReactiveOrganizationContext.getOrganizationId()
+                .flatMap(orgId -> {
+                    Query query = KeysetQuery.after(orgId, KeysetCursor.decode(cursor, orgId), "createdAt", "idBonCommande", limit);
+                    return KeysetQuery.toPage(entityTemplate.select(query, BonCommande.class),
+                            orgId, limit,
+                            BonCommande::getCreatedAt, BonCommande::getIdBonCommande,
+                            bonCommandeMapper::toResponse);
+                });
     }
 
     @Transactional
@@ -116,11 +122,10 @@ public class BonCommandeService {
                     bonCommande.setUpdatedAt(LocalDateTime.now());
                     return bonCommandeRepository.save(bonCommande);
                 })
-                .map(updatedBonCommande -> {
+                .flatMap(updatedBonCommande -> {
                     BonCommandeResponse response = bonCommandeMapper.toResponse(updatedBonCommande);
-                    bonCommandeEventProducer.publishBonCommandeUpdated(response);
                     log.info("Statut du bon de commande mis à jour avec succès: {}", bonCommandeId);
-                    return response;
+                    return bonCommandeEventProducer.publishBonCommandeUpdated(response).thenReturn(response);
                 });
     }
 
@@ -133,7 +138,7 @@ public class BonCommandeService {
                         return Mono.error(new IllegalArgumentException("Bon de commande non trouvé: " + bonCommandeId));
                     }
                     return bonCommandeRepository.deleteById(bonCommandeId)
-                            .then(Mono.fromRunnable(() -> bonCommandeEventProducer.publishBonCommandeDeleted(bonCommandeId)));
+                            .then(Mono.defer(() -> bonCommandeEventProducer.publishBonCommandeDeleted(bonCommandeId)));
                 })
                 .then();
     }
@@ -7,7 +7,6 @@ import com.example.account.modules.facturation.dto.request.BonLivraisonRequest;
 import com.example.account.modules.facturation.dto.response.BonLivraisonResponse;
 import com.example.account.modules.facturation.mapper.BonLivraisonMapper;
 import com.example.account.modules.facturation.model.entity.BonLivraison;
-import com.example.account.modules.facturation.model.entity.LigneBonLivraison;
 import com.example.account.modules.facturation.model.enums.StatutBonLivraison;
 import com.example.account.modules.facturation.repository.BonLivraisonRepository;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
@@ -15,13 +14,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -32,7 +27,6 @@ public class BonLivraisonService {
     private final BonLivraisonRepository bonLivraisonRepository;
     private final BonLivraisonMapper bonLivraisonMapper;
     private final R2dbcEntityTemplate entityTemplate;
-    private final ObjectMapper objectMapper;
 
     @Transactional
     public Mono<BonLivraisonResponse> createBonLivraison(BonLivraisonRequest request) {
@@ -45,7 +39,6 @@ public class BonLivraisonService {
 
         return entityTemplate.insert(bonLivraison)
                 .map(saved -> {
-                    deserializeJsonbLines(saved);
                     return bonLivraisonMapper.toResponse(saved);
                 });
     }
@@ -56,7 +49,6 @@ public class BonLivraisonService {
         return bonLivraisonRepository.findById(id)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Bon de livraison non trouvé: " + id)))
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
@@ -66,7 +58,6 @@ public class BonLivraisonService {
         log.info("Récupération de tous les bons de livraison");
         return bonLivraisonRepository.findAll()
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
@@ -76,7 +67,6 @@ public class BonLivraisonService {
         log.info("Récupération des bons de livraison du client: {}", idClient);
         return bonLivraisonRepository.findByIdClient(idClient)
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
@@ -105,7 +95,6 @@ public class BonLivraisonService {
                     return bonLivraisonRepository.save(bonLivraison);
                 })
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
@@ -121,7 +110,6 @@ public class BonLivraisonService {
                     return bonLivraisonRepository.save(bonLivraison);
                 })
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
@@ -142,27 +130,7 @@ public class BonLivraisonService {
                     return bonLivraisonRepository.save(bonLivraison);
                 })
                 .map(bonLivraison -> {
-                    deserializeJsonbLines(bonLivraison);
                     return bonLivraisonMapper.toResponse(bonLivraison);
                 });
     }
-
-    /**
-     * Convert LinkedHashMap items (from JSONB deserialization) to LigneBonLivraison objects
-     */
-    private void deserializeJsonbLines(BonLivraison bonLivraison) {
-        if (bonLivraison.getLignesBonLivraison() == null) {
-            return;
-        }
-        List<LigneBonLivraison> deserializedLines = new ArrayList<>();
-        for (Object item : bonLivraison.getLignesBonLivraison()) {
-            if (item instanceof Map) {
-                LigneBonLivraison ligne = objectMapper.convertValue(item, LigneBonLivraison.class);
-                deserializedLines.add(ligne);
-            } else if (item instanceof LigneBonLivraison) {
-                deserializedLines.add((LigneBonLivraison) item);
-            }
-        }
-        bonLivraison.setLignesBonLivraison(deserializedLines);
-    }
 }
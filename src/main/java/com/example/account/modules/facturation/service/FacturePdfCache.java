@@ -0,0 +1,258 @@
+package com.example.account.modules.facturation.service;
+
+import com.example.account.modules.core.adapter.output.external.SingleFlight;
+import com.example.account.modules.facturation.domain.model.Facture;
+import com.example.account.modules.facturation.domain.model.StoredPdf;
+import com.example.account.modules.tiers.domain.model.Client;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of rendered facture PDFs.
+ *
+ * An entry is keyed on the facture id and version, the template fingerprint and the client fields
+ * printed on the document, so any change to one of them gives a new key and stale PDFs simply age
+ * out. Two tiers: a byte-bounded in-memory LRU in front of a byte-bounded directory of files.
+ * Concurrent misses on the same key share a single render. An evicted file is deleted only
+ * {@code comops.pdf.cache.delete-delay} later, so downloads already served from it can finish.
+ * Metrics: pdf.cache.memory and pdf.cache.disk (hits, misses, evictions), pdf.cache.renders.
+ */
+@Slf4j
+@Component
+public class FacturePdfCache {
+
+    private static final String SUFFIX = ".pdf";
+
+    private final PdfGeneratorService pdfGeneratorService;
+    private final SingleFlight singleFlight;
+    private final Cache<String, byte[]> memory;
+    private final Cache<String, Long> disk;
+    private final Path directory;
+    private final Duration deleteDelay;
+    private final String templateHash;
+    private final Counter renders;
+
+    public FacturePdfCache(PdfGeneratorService pdfGeneratorService,
+                           SingleFlight singleFlight,
+                           ResourceLoader resourceLoader,
+                           MeterRegistry meterRegistry,
+                           @Value("${spring.thymeleaf.prefix:classpath:/templates/}") String templatePrefix,
+                           @Value("${spring.thymeleaf.suffix:.html}") String templateSuffix,
+                           @Value("${comops.pdf.cache.memory-max-size:64MB}") DataSize memoryMaxSize,
+                           @Value("${comops.pdf.cache.disk-max-size:2GB}") DataSize diskMaxSize,
+                           @Value("${comops.pdf.cache.directory:pdfs/cache}") String directory,
+                           @Value("${comops.pdf.cache.delete-delay:5m}") Duration deleteDelay) throws IOException {
+        this.pdfGeneratorService = pdfGeneratorService;
+        this.singleFlight = singleFlight;
+        this.directory = Files.createDirectories(Paths.get(directory));
+        this.deleteDelay = deleteDelay;
+        this.templateHash = templateHash(
+                resourceLoader.getResource(templatePrefix + PdfRenderer.FACTURE_TEMPLATE + templateSuffix));
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxSize.toBytes())
+                .<String, byte[]>weigher((key, pdf) -> pdf.length)
+                .recordStats()
+                .build();
+        this.disk = Caffeine.newBuilder()
+                .maximumWeight(diskMaxSize.toBytes())
+                .<String, Long>weigher((key, size) -> (int) Math.min(size, Integer.MAX_VALUE))
+                .removalListener((String key, Long size, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED) {
+                        deleteLater(key);
+                    }
+                })
+                .recordStats()
+                .build();
+        this.renders = Counter.builder("pdf.cache.renders")
+                .description("PDF de facture rendus faute d'entrée en cache")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "pdf.cache.memory");
+        CaffeineCacheMetrics.monitor(meterRegistry, disk, "pdf.cache.disk");
+        indexDirectory();
+    }
+
+    /**
+     * Returns the cached PDF of this facture state, rendering and storing it on a miss.
+     */
+    public Mono<byte[]> get(Facture facture, Client client) {
+        String key = key(facture, client);
+        byte[] cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return singleFlight.execute("pdf.cache.facture", key, () -> Mono.fromCallable(() -> readDisk(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(pdf -> memory.put(key, pdf))
+                .switchIfEmpty(Mono.defer(() -> pdfGeneratorService.generateFacturePdf(facture, client)
+                        .doOnNext(pdf -> renders.increment())
+                        .flatMap(pdf -> Mono.fromRunnable(() -> store(key, pdf))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(pdf)))));
+    }
+
+    /**
+     * Same as {@link #get} but hands out the cache file itself, for zero-copy serving. The bytes are
+     * returned instead when the PDF could not be kept on disk.
+     */
+    public Mono<StoredPdf> getStored(Facture facture, Client client) {
+        String key = key(facture, client);
+        return Mono.fromCallable(() -> stored(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.defer(() -> get(facture, client)
+                        .flatMap(pdf -> Mono.fromCallable(() -> stored(key))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .defaultIfEmpty(new StoredPdf(key, null, pdf, null)))));
+    }
+
+    private StoredPdf stored(String key) {
+        if (disk.getIfPresent(key) == null) {
+            return null;
+        }
+        Path file = file(key);
+        try {
+            return new StoredPdf(key, file, null, Files.getLastModifiedTime(file).toInstant());
+        } catch (NoSuchFileException e) {
+            disk.invalidate(key);
+            return null;
+        } catch (IOException e) {
+            log.warn("Lecture du PDF en cache {} impossible: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] readDisk(String key) {
+        if (disk.getIfPresent(key) == null) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(file(key));
+        } catch (NoSuchFileException e) {
+            disk.invalidate(key);
+            return null;
+        } catch (IOException e) {
+            log.warn("Lecture du PDF en cache {} impossible: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, byte[] pdf) {
+        memory.put(key, pdf);
+        try {
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(tmp, pdf);
+            Files.move(tmp, file(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            disk.put(key, (long) pdf.length);
+        } catch (IOException e) {
+            log.warn("Écriture du PDF en cache {} impossible: {}", key, e.getMessage());
+        }
+    }
+
+    private void indexDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                try {
+                    if (name.endsWith(SUFFIX)) {
+                        disk.put(name.substring(0, name.length() - SUFFIX.length()), Files.size(path));
+                    } else {
+                        Files.deleteIfExists(path);
+                    }
+                } catch (IOException e) {
+                    log.warn("Fichier de cache PDF ignoré {}: {}", path, e.getMessage());
+                }
+            });
+        }
+        log.info("Cache PDF des factures: {} fichiers dans {}", disk.estimatedSize(), directory);
+    }
+
+    /**
+     * Deletes an evicted file after the grace delay, unless the same PDF was stored again meanwhile.
+     */
+    private void deleteLater(String key) {
+        Mono.delay(deleteDelay, Schedulers.boundedElastic())
+                .filter(tick -> disk.getIfPresent(key) == null)
+                .subscribe(tick -> deleteQuietly(key));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            log.warn("Suppression du PDF en cache {} impossible: {}", key, e.getMessage());
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private String key(Facture facture, Client client) {
+        return sha256(String.join("|",
+                String.valueOf(facture.getIdFacture()),
+                String.valueOf(facture.getVersion()),
+                templateHash,
+                clientSnapshot(client)));
+    }
+
+    /**
+     * Client fields printed on the facture.
+     */
+    private static String clientSnapshot(Client client) {
+        return sha256(String.join("|",
+                Objects.toString(client.getIdClient(), ""),
+                Objects.toString(client.getUsername(), ""),
+                Objects.toString(client.getAdresse(), ""),
+                Objects.toString(client.getEmail(), ""),
+                Objects.toString(client.getTelephone(), ""),
+                Objects.toString(client.getNumeroTva(), "")));
+    }
+
+    /**
+     * Fingerprint of the template Thymeleaf resolves for the facture PDF; a missing template fails
+     * startup rather than leaving template edits unnoticed by the cache.
+     */
+    private static String templateHash(Resource template) throws IOException {
+        if (!template.exists()) {
+            throw new IllegalStateException("Template PDF de facture introuvable: " + template.getDescription());
+        }
+        try (InputStream in = template.getInputStream()) {
+            return sha256(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.example.account.modules.facturation.service.Journals;
 
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -14,29 +13,21 @@ import com.example.account.modules.facturation.dto.response.ExternalResponses.Se
 import com.example.account.modules.facturation.domain.model.Devis;
 import com.example.account.modules.facturation.domain.model.LigneDevis;
 import com.example.account.modules.facturation.domain.port.output.DevisRepositoryPort;
-import com.example.account.modules.facturation.domain.port.output.SellerServicePort;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 public class DevisJournalService {
     
-    private final SellerServicePort sellerService;
-    private final DevisRepositoryPort devisRepository;  
-    
+    private final SellerJournalEnricher journalEnricher;
+    private final DevisRepositoryPort devisRepository;
+
+    /**
+     * Streams the organization's devis page by page, each joined with its seller (createdBy).
+     */
     public Flux<EnrichedDevisResponse> enrichDevis(UUID orgId) {
-        return sellerService.getSellersByOrganization(orgId)
-                .collectList()
-                .flatMapMany(sellers -> devisRepository.findByOrganizationId(orgId)
-                        .flatMap(devis -> {
-                            SellerAuthResponse matchingSeller = sellers.stream()
-                                    .filter(s -> s.getId().equals(devis.getCreatedBy()))
-                                    .findFirst()
-                                    .orElse(null);
-                            return Mono.justOrEmpty(toEnrichedResponse(devis, matchingSeller));
-                        }));
+        return journalEnricher.enrich(orgId, devisRepository::findPage, Devis::getCreatedBy, this::toEnrichedResponse);
     }
 
     public EnrichedDevisResponse toEnrichedResponse(Devis devis, SellerAuthResponse seller) {
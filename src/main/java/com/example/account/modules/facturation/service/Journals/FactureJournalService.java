@@ -0,0 +1,40 @@
+package com.example.account.modules.facturation.service.Journals;
+
+import com.example.account.modules.facturation.domain.model.Facture;
+import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.EnrichedFactureResponse;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
+import com.example.account.modules.facturation.mapper.FactureMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class FactureJournalService {
+
+    private final SellerJournalEnricher journalEnricher;
+    private final FactureRepositoryPort factureRepository;
+    private final FactureMapper factureMapper;
+
+    /**
+     * Streams the organization's invoices page by page, each joined with its seller (createdBy).
+     */
+    public Flux<EnrichedFactureResponse> enrichFactures(UUID orgId) {
+        return journalEnricher.enrich(orgId, factureRepository::findPage, Facture::getCreatedBy, this::toEnrichedResponse);
+    }
+
+    public EnrichedFactureResponse toEnrichedResponse(Facture facture, SellerAuthResponse seller) {
+        return EnrichedFactureResponse.builder()
+                .facture(factureMapper.toResponse(facture))
+                .sellerUsername(seller != null ? seller.getUsername() : null)
+                .organizationName(seller != null ? seller.getOrganizationName() : null)
+                .agencyId(seller != null ? seller.getAgencyId() : null)
+                .agencyName(seller != null ? seller.getAgencyName() : null)
+                .salesPointId(seller != null ? seller.getSalesPointId() : null)
+                .salesPointName(seller != null ? seller.getSalesPointName() : null)
+                .build();
+    }
+}
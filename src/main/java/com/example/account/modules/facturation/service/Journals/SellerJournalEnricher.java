@@ -0,0 +1,65 @@
+package com.example.account.modules.facturation.service.Journals;
+
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
+import com.example.account.modules.facturation.domain.port.output.SellerServicePort;
+import com.example.account.modules.facturation.dto.response.ExternalResponses.SellerAuthResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Journal pipeline shared by the devis and facture journals: the organization's sellers are loaded
+ * once into a map keyed by seller id, then documents are streamed in keyset pages and joined on
+ * their createdBy with a map lookup. Only one page of documents is held in memory at a time.
+ */
+@Component
+@RequiredArgsConstructor
+public class SellerJournalEnricher {
+
+    private static final int PAGE_SIZE = KeysetPage.MAX_SIZE;
+
+    private final SellerServicePort sellerService;
+
+    /**
+     * @param pages   keyset page loader, e.g. {@code repository::findPage}
+     * @param creator seller id of a document (its createdBy)
+     * @param enrich  builds the journal entry; the seller is null when unknown to Kernel
+     */
+    public <D, R> Flux<R> enrich(UUID orgId,
+                                 PageLoader<D> pages,
+                                 Function<D, UUID> creator,
+                                 BiFunction<D, SellerAuthResponse, R> enrich) {
+        return sellersById(orgId).flatMapMany(sellers -> stream(orgId, pages)
+                .map(document -> {
+                    UUID sellerId = creator.apply(document);
+                    return enrich.apply(document, sellerId != null ? sellers.get(sellerId) : null);
+                }));
+    }
+
+    private Mono<Map<UUID, SellerAuthResponse>> sellersById(UUID orgId) {
+        return sellerService.getSellersByOrganization(orgId)
+                .filter(seller -> seller.getId() != null)
+                .collect(HashMap::new, (map, seller) -> map.putIfAbsent(seller.getId(), seller));
+    }
+
+    private static <D> Flux<D> stream(UUID orgId, PageLoader<D> pages) {
+        return pages.load(orgId, null, PAGE_SIZE)
+                .expand(page -> page.hasNext()
+                        ? pages.load(orgId, KeysetCursor.decode(page.getNextCursor(), orgId), PAGE_SIZE)
+                        : Mono.empty())
+                .concatMapIterable(KeysetPage::getContent, 1);
+    }
+
+    @FunctionalInterface
+    public interface PageLoader<D> {
+        Mono<KeysetPage<D>> load(UUID organizationId, KeysetCursor after, int limit);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.account.modules.facturation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Dedicated executors for PDF rendering, kept off the shared boundedElastic pool.
+ *
+ * Two lanes with their own threads and bounded queue: INTERACTIVE for downloads (the default) and
+ * BATCH for pre-rendering and archives, selected with {@link #batchLane()} in the Reactor context,
+ * so a batch backlog never delays a download. A full queue fails fast with a
+ * {@link RejectedExecutionException}, answered as 503 with Retry-After. Detached background work
+ * (pre-rendering) goes through {@link #submitBatch}, which bounds how many such pipelines are in
+ * flight and drops the rest. Metrics: executor.* tagged name=pdf.render.{lane} (queue depth, active
+ * threads), pdf.render.duration{lane} and pdf.render.dropped.
+ */
+@Slf4j
+@Component
+public class PdfRenderScheduler implements DisposableBean {
+
+    public enum Lane { INTERACTIVE, BATCH }
+
+    private static final String LANE_KEY = PdfRenderScheduler.class.getName() + ".lane";
+
+    private final Map<Lane, LaneExecutor> lanes = new EnumMap<>(Lane.class);
+    private final Semaphore detached;
+    private final Counter dropped;
+
+    public PdfRenderScheduler(MeterRegistry meterRegistry,
+                              @Value("${comops.pdf.render.interactive.concurrency:0}") int interactiveConcurrency,
+                              @Value("${comops.pdf.render.interactive.queue-capacity:200}") int interactiveQueue,
+                              @Value("${comops.pdf.render.batch.concurrency:0}") int batchConcurrency,
+                              @Value("${comops.pdf.render.batch.queue-capacity:10000}") int batchQueue,
+                              @Value("${comops.pdf.render.virtual-threads:false}") boolean virtualThreads,
+                              @Value("${comops.pdf.render.batch.max-detached:64}") int maxDetached) {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        lanes.put(Lane.INTERACTIVE, new LaneExecutor(Lane.INTERACTIVE,
+                interactiveConcurrency > 0 ? interactiveConcurrency : cpus, interactiveQueue, virtualThreads, meterRegistry));
+        lanes.put(Lane.BATCH, new LaneExecutor(Lane.BATCH,
+                batchConcurrency > 0 ? batchConcurrency : Math.max(1, cpus / 2), batchQueue, virtualThreads, meterRegistry));
+        this.detached = new Semaphore(maxDetached);
+        this.dropped = Counter.builder("pdf.render.dropped")
+                .description("Rendus PDF en arrière-plan abandonnés, voie BATCH saturée")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a blocking render on the lane of the current Reactor context.
+     */
+    public <T> Mono<T> render(Callable<T> task) {
+        return Mono.deferContextual(ctx -> {
+            Lane lane = ctx.getOrDefault(LANE_KEY, Lane.INTERACTIVE);
+            LaneExecutor executor = lanes.get(lane);
+            return Mono.fromCallable(() -> executor.duration.recordCallable(task))
+                    .subscribeOn(executor.scheduler)
+                    .onErrorMap(RejectedExecutionException.class, e -> {
+                        log.warn("File de rendu PDF {} saturée, requête refusée", lane);
+                        return new RejectedExecutionException("Génération de PDF saturée, réessayez plus tard", e);
+                    });
+        });
+    }
+
+    /**
+     * Subscribes to {@code task} on the BATCH lane, detached from the caller, unless
+     * {@code comops.pdf.render.batch.max-detached} tasks are already in flight; returns false when
+     * the task was dropped. Errors are the task's to log, they are swallowed here.
+     */
+    public boolean submitBatch(Mono<?> task) {
+        if (!detached.tryAcquire()) {
+            dropped.increment();
+            return false;
+        }
+        task.contextWrite(batchLane())
+                .doFinally(signal -> detached.release())
+                .subscribe(value -> { }, e -> { });
+        return true;
+    }
+
+    /**
+     * Context writer routing the renders of a pipeline to the BATCH lane.
+     */
+    public static Function<Context, Context> batchLane() {
+        return ctx -> ctx.put(LANE_KEY, Lane.BATCH);
+    }
+
+    @Override
+    public void destroy() {
+        lanes.values().forEach(executor -> executor.scheduler.dispose());
+    }
+
+    private static final class LaneExecutor {
+
+        private final Scheduler scheduler;
+        private final Timer duration;
+
+        LaneExecutor(Lane lane, int concurrency, int queueCapacity, boolean virtualThreads, MeterRegistry meterRegistry) {
+            String name = "pdf-render-" + lane.name().toLowerCase(Locale.ROOT);
+            ThreadFactory threads = virtualThreads
+                    ? Thread.ofVirtual().name(name + "-", 0).factory()
+                    : Thread.ofPlatform().name(name + "-", 0).daemon(true).factory();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threads, new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            this.scheduler = Schedulers.fromExecutorService(
+                    ExecutorServiceMetrics.monitor(meterRegistry, executor, "pdf.render." + lane.name().toLowerCase(Locale.ROOT)),
+                    name);
+            this.duration = Timer.builder("pdf.render.duration")
+                    .description("Durée de rendu d'un PDF")
+                    .tags(Tags.of("lane", lane.name().toLowerCase(Locale.ROOT)))
+                    .register(meterRegistry);
+            log.info("Voie de rendu PDF {}: {} threads {}, file de {}", lane, concurrency,
+                    virtualThreads ? "virtuels" : "plateforme", queueCapacity);
+        }
+    }
+}
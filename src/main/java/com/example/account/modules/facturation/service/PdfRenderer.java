@@ -0,0 +1,207 @@
+package com.example.account.modules.facturation.service;
+
+import com.example.account.modules.facturation.domain.model.Facture;
+import com.example.account.modules.facturation.domain.model.Paiement;
+import com.example.account.modules.facturation.model.enums.StatutFacture;
+import com.example.account.modules.tiers.domain.model.Client;
+import com.openhtmltopdf.extend.FSCacheEx;
+import com.openhtmltopdf.extend.FSCacheValue;
+import com.openhtmltopdf.extend.impl.FSDefaultCacheStore;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Thymeleaf + openhtmltopdf rendering shared by every PDF of the module.
+ *
+ * The expensive, reusable parts are set up once: font files are read into memory at startup,
+ * font metrics go to a process-wide cache store, templates stay in Thymeleaf's parsed-template
+ * cache and the XHTML is parsed with a per-thread DocumentBuilder instead of a fresh factory
+ * lookup per document. Each template is rendered once with sample data before the application
+ * reports ready, so the first real document does not pay the cold start.
+ */
+@Slf4j
+@Component
+public class PdfRenderer implements ApplicationRunner {
+
+    public static final String FACTURE_TEMPLATE = "pdf/facture-template";
+    public static final String RECU_PAIEMENT_TEMPLATE = "pdf/recu-paiement";
+
+    private static final int INITIAL_BUFFER = 64 * 1024;
+
+    private final TemplateEngine templateEngine;
+    private final FSCacheEx<String, FSCacheValue> fontMetrics = new FSDefaultCacheStore();
+    private final List<PreloadedFont> fonts;
+    private final ThreadLocal<DocumentBuilder> documentBuilder;
+    private final boolean warmUp;
+
+    public PdfRenderer(TemplateEngine templateEngine,
+                       @Value("${comops.pdf.render.fonts:classpath*:fonts/*.ttf}") String fontLocation,
+                       @Value("${comops.pdf.render.warm-up:true}") boolean warmUp) throws IOException {
+        this.templateEngine = templateEngine;
+        this.fonts = loadFonts(fontLocation);
+        this.documentBuilder = ThreadLocal.withInitial(PdfRenderer::newDocumentBuilder);
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * Renders a template to PDF bytes on the calling thread (a render lane of {@link PdfRenderScheduler}).
+     */
+    public byte[] render(String template, Map<String, Object> variables) throws IOException {
+        String html = templateEngine.process(template, new Context(Locale.FRENCH, variables));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER);
+        PdfRendererBuilder builder = new PdfRendererBuilder();
+        builder.useFastMode();
+        builder.useCacheStore(PdfRendererBuilder.CacheStore.PDF_FONT_METRICS, fontMetrics);
+        for (PreloadedFont font : fonts) {
+            builder.useFont(font::open, font.family());
+        }
+        builder.withW3cDocument(parse(html), "");
+        builder.toStream(outputStream);
+        builder.run();
+        return outputStream.toByteArray();
+    }
+
+    public static Map<String, Object> factureVariables(Facture facture, Client client) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("facture", facture);
+        variables.put("client", client);
+        variables.put("lignesFacture", facture.getLignesFacture());
+        variables.put("logoPath", "");
+        return variables;
+    }
+
+    public static Map<String, Object> recuPaiementVariables(Paiement paiement, Facture facture, Client client) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("paiement", paiement);
+        variables.put("facture", facture);
+        variables.put("client", client);
+        variables.put("logoPath", "");
+        return variables;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmUp) {
+            return;
+        }
+        Facture facture = Facture.builder()
+                .idFacture(UUID.randomUUID())
+                .numeroFacture("WARM-UP")
+                .dateFacturation(LocalDateTime.now())
+                .dateEcheance(LocalDateTime.now())
+                .etat(StatutFacture.values()[0])
+                .lignesFacture(new ArrayList<>())
+                .montantHT(BigDecimal.ZERO)
+                .montantTVA(BigDecimal.ZERO)
+                .montantTotal(BigDecimal.ZERO)
+                .montantRestant(BigDecimal.ZERO)
+                .build();
+        Client client = Client.builder().username("WARM-UP").build();
+        Paiement paiement = Paiement.builder().idPaiement(UUID.randomUUID()).montant(BigDecimal.ZERO).build();
+        boolean ready = warmUp(FACTURE_TEMPLATE, factureVariables(facture, client));
+        ready &= warmUp(RECU_PAIEMENT_TEMPLATE, recuPaiementVariables(paiement, facture, client));
+        if (!ready) {
+            log.error("Préchauffage du rendu PDF incomplet: les documents des templates en échec ne pourront pas être générés");
+        }
+    }
+
+    /**
+     * Renders the template twice and logs both timings; returns false, after logging the cause,
+     * when the template cannot be rendered.
+     */
+    private boolean warmUp(String template, Map<String, Object> variables) {
+        try {
+            long cold = System.nanoTime();
+            render(template, variables);
+            long warm = System.nanoTime();
+            render(template, variables);
+            long end = System.nanoTime();
+            log.info("Préchauffage du rendu PDF {}: à froid {} ms, à chaud {} ms", template,
+                    (warm - cold) / 1_000_000, (end - warm) / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            log.error("Préchauffage du rendu PDF {} en échec: {}", template, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private Document parse(String html) throws IOException {
+        try {
+            DocumentBuilder builder = documentBuilder.get();
+            builder.reset();
+            return builder.parse(new InputSource(new StringReader(html)));
+        } catch (SAXException e) {
+            throw new IOException("XHTML du template PDF invalide", e);
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setValidating(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Analyseur XHTML indisponible", e);
+        }
+    }
+
+    private static List<PreloadedFont> loadFonts(String location) throws IOException {
+        List<PreloadedFont> fonts = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location)) {
+            String filename = resource.getFilename();
+            if (filename == null || !resource.isReadable()) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                fonts.add(new PreloadedFont(filename.substring(0, filename.lastIndexOf('.')), in.readAllBytes()));
+            }
+        }
+        if (fonts.isEmpty()) {
+            log.warn("Aucune police PDF trouvée dans {}, rendu avec les polices standard PDF", location);
+        } else {
+            log.info("Polices PDF préchargées: {}", fonts.stream().map(PreloadedFont::family).toList());
+        }
+        return List.copyOf(fonts);
+    }
+
+    /**
+     * A font file kept in memory; the family is the file name without extension.
+     */
+    private record PreloadedFont(String family, byte[] bytes) {
+        InputStream open() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+}
@@ -2,55 +2,107 @@ package com.example.account.modules.facturation.service;
 
 import reactor.core.publisher.Mono;
 
+import com.example.account.modules.facturation.domain.model.ChiffreAffairesMensuel;
+import com.example.account.modules.facturation.domain.model.ClientChiffreAffaires;
+import com.example.account.modules.facturation.domain.model.ProduitVentes;
 import com.example.account.modules.facturation.dto.response.TableauDeBordResponse;
-import com.example.account.modules.facturation.model.enums.StatutFacture;
 import com.example.account.modules.facturation.domain.port.output.DevisRepositoryPort;
-import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
-import com.example.account.modules.tiers.domain.port.output.ClientRepositoryPort;
+import com.example.account.modules.facturation.domain.port.output.FactureStatistiquesPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TableauDeBordService {
 
-    private final FactureRepositoryPort factureRepository;
     private final DevisRepositoryPort devisRepository;
-    private final ClientRepositoryPort clientRepository;
+    private final FactureStatistiquesPort statistiquesPort;
+
+    private static final int TOP_LIMIT = 5;
+    private static final int MOIS_EVOLUTION = 12;
 
     @Transactional(readOnly = true)
     public Mono<TableauDeBordResponse> getTableauDeBord() {
         log.info("Calcul des indicateurs du tableau de bord");
 
         LocalDate now = LocalDate.now();
-        LocalDate debutMois = now.withDayOfMonth(1);
         LocalDate debutAnnee = now.withDayOfYear(1);
 
+        Mono<TableauDeBordResponse.TableauDeBordResponseBuilder> indicateurs = statistiquesPort.findIndicateurs(now)
+                .map(kpi -> TableauDeBordResponse.builder()
+                        .chiffreAffairesMois(kpi.getChiffreAffairesMois())
+                        .chiffreAffairesAnnee(kpi.getChiffreAffairesAnnee())
+                        .evolutionCA(evolution(kpi.getChiffreAffairesMois(), kpi.getChiffreAffairesMoisPrecedent()))
+                        .nombreFacturesEmises(kpi.getNombreFactures())
+                        .nombreFacturesPayees(kpi.getNombreFacturesPayees())
+                        .nombreFacturesEnAttente(kpi.getNombreFacturesEnAttente())
+                        .montantFacturesEnAttente(kpi.getMontantFacturesEnAttente())
+                        .montantFacturesEnRetard(kpi.getMontantFacturesEnRetard())
+                        .nombreClients(kpi.getNombreClients())
+                        .nombreNouveauxClients(kpi.getNombreNouveauxClients())
+                        .montantMoyenParClient(moyenne(kpi.getChiffreAffairesAnnee(), kpi.getNombreClientsAnnee())));
+
         return Mono.zip(
-                factureRepository.sumMontantByDateBetween(debutMois, now).defaultIfEmpty(BigDecimal.ZERO),
-                factureRepository.sumMontantByDateBetween(debutAnnee, now).defaultIfEmpty(BigDecimal.ZERO),
-                factureRepository.count(),
-                factureRepository.countByEtat(StatutFacture.PAYE),
-                factureRepository.countByEtat(StatutFacture.EN_ATTENTE),
-                clientRepository.count()
-        ).map(tuple -> TableauDeBordResponse.builder()
-                .chiffreAffairesMois(tuple.getT1())
-                .chiffreAffairesAnnee(tuple.getT2())
-                .nombreFacturesEmises(tuple.getT3())
-                .nombreFacturesPayees(tuple.getT4())
-                .nombreFacturesEnAttente(tuple.getT5())
-                .nombreClients(tuple.getT6())
-                .topProduits(new ArrayList<>())
-                .topClients(new ArrayList<>())
-                .evolutionCA12Mois(new ArrayList<>())
+                indicateurs,
+                statistiquesPort.findTopProduits(debutAnnee, now, TOP_LIMIT).map(this::toProduitStats).collectList(),
+                statistiquesPort.findTopClients(debutAnnee, now, TOP_LIMIT).map(this::toClientStats).collectList(),
+                statistiquesPort.findChiffreAffairesMensuel(now, MOIS_EVOLUTION).map(this::toEvolutionMensuelle).collectList()
+        ).map(tuple -> tuple.getT1()
+                .topProduits(tuple.getT2())
+                .topClients(tuple.getT3())
+                .evolutionCA12Mois(tuple.getT4())
                 .dateGeneration(now)
                 .build());
     }
+
+    /**
+     * Évolution en pourcentage du mois courant par rapport à la même période du mois précédent,
+     * null quand le mois précédent est nul.
+     */
+    private BigDecimal evolution(BigDecimal courant, BigDecimal precedent) {
+        if (precedent.signum() == 0) {
+            return null;
+        }
+        return courant.subtract(precedent)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(precedent, 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal moyenne(BigDecimal montant, Long nombre) {
+        if (nombre == null || nombre == 0) {
+            return BigDecimal.ZERO;
+        }
+        return montant.divide(BigDecimal.valueOf(nombre), 2, RoundingMode.HALF_UP);
+    }
+
+    private TableauDeBordResponse.ProduitStats toProduitStats(ProduitVentes ventes) {
+        return TableauDeBordResponse.ProduitStats.builder()
+                .nomProduit(ventes.getNomProduit())
+                .reference(ventes.getIdProduit())
+                .quantiteVendue(ventes.getQuantiteVendue().setScale(0, RoundingMode.HALF_UP).longValue())
+                .chiffreAffaires(ventes.getChiffreAffaires())
+                .build();
+    }
+
+    private TableauDeBordResponse.ClientStats toClientStats(ClientChiffreAffaires client) {
+        return TableauDeBordResponse.ClientStats.builder()
+                .nomClient(client.getNomClient())
+                .nombreFactures(client.getNombreFactures())
+                .montantTotal(client.getMontantTotal())
+                .build();
+    }
+
+    private TableauDeBordResponse.EvolutionMensuelle toEvolutionMensuelle(ChiffreAffairesMensuel mois) {
+        return TableauDeBordResponse.EvolutionMensuelle.builder()
+                .periode(mois.getPeriode())
+                .montant(mois.getMontant())
+                .build();
+    }
 }
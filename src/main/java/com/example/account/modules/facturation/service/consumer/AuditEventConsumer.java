@@ -1,60 +1,50 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class AuditEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "audit", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeAuditEvent(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement d'audit reçu: partition={}, offset={}, key={}", partition, offset, key);
-            log.debug("Contenu du message: {}", message);
+public class AuditEventConsumer implements KafkaEventHandler {
 
-            // Traitement: enregistrement dans base de données d'audit,
-            // analyse de sécurité, génération de rapports, etc.
+    private final KafkaBatchProcessor batchProcessor;
 
-            acknowledgment.acknowledge();
-            log.info("Événement d'audit traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement d'audit: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = {"audit", "notification"}, groupId = "${spring.kafka.consumer.group-id}-audit")
+    public void consumeAuditEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "notification", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeNotificationEvent(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement de notification reçu: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement: envoi email, SMS, push notification, etc.
+    @Override
+    public String listener() {
+        return "audit";
+    }
 
-            acknowledgment.acknowledge();
-            log.info("Événement de notification traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement de notification: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "audit" -> {
+                // Traitement: enregistrement dans base de données d'audit,
+                // analyse de sécurité, génération de rapports, etc.
+            }
+            case "notification" -> {
+                // Traitement: envoi email, SMS, push notification, etc.
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 }
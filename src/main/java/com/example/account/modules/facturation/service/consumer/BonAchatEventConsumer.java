@@ -1,72 +1,46 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class BonAchatEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "bon-achat-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonAchatCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) long offset,
-            Acknowledgment acknowledgment) {
+public class BonAchatEventConsumer implements KafkaEventHandler {
 
-        try {
-            log.info("Événement reçu - bon-achat-created: partition={}, offset={}, key={}", partition, offset, key);
-            log.debug("Contenu du message: {}", message);
+    private final KafkaBatchProcessor batchProcessor;
 
-            acknowledgment.acknowledge();
-            log.info("Événement bon-achat-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-achat-created: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = {"bon-achat-created", "bon-achat-updated", "bon-achat-deleted"}, groupId = "${spring.kafka.consumer.group-id}-bon-achat")
+    public void consumeBonAchatEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "bon-achat-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonAchatUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - bon-achat-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement bon-achat-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-achat-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "bon-achat";
     }
 
-    @KafkaListener(topics = "bon-achat-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonAchatDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - bon-achat-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement bon-achat-deleted traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-achat-deleted: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "bon-achat-created", "bon-achat-updated", "bon-achat-deleted" -> {
+                // Aucun traitement pour le moment
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 }
@@ -1,78 +1,52 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class BonCommandeEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "bon-commande-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonCommandeCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
+public class BonCommandeEventConsumer implements KafkaEventHandler {
 
-        try {
-            log.info("Événement reçu - bon-commande-created: partition={}, offset={}, key={}", partition, offset, key);
-            log.debug("Contenu du message: {}", message);
+    private final KafkaBatchProcessor batchProcessor;
 
-            // Traitement de l'événement bon de commande créé
-
-            acknowledgment.acknowledge();
-            log.info("Événement bon-commande-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-commande-created: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = {"bon-commande-created", "bon-commande-updated", "bon-commande-deleted"}, groupId = "${spring.kafka.consumer.group-id}-bon-commande")
+    public void consumeBonCommandeEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "bon-commande-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonCommandeUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - bon-commande-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement bon de commande mis à jour
-
-            acknowledgment.acknowledge();
-            log.info("Événement bon-commande-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-commande-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "bon-commande";
     }
 
-    @KafkaListener(topics = "bon-commande-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeBonCommandeDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - bon-commande-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement bon de commande supprimé
-
-            acknowledgment.acknowledge();
-            log.info("Événement bon-commande-deleted traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement bon-commande-deleted: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "bon-commande-created" -> {
+                // Traitement de l'événement bon de commande créé
+            }
+            case "bon-commande-updated" -> {
+                // Traitement de l'événement bon de commande mis à jour
+            }
+            case "bon-commande-deleted" -> {
+                // Traitement de l'événement bon de commande supprimé
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 }
@@ -1,80 +1,78 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.dto.EventEnvelope;
+import com.example.account.modules.core.service.EventEnvelopeCodec;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
+import com.example.account.modules.tiers.adapter.output.external.KernelClientDirectory;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class ClientEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "client-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeClientCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - client-created: partition={}, offset={}, key={}", partition, offset, key);
-            log.debug("Contenu du message: {}", message);
+public class ClientEventConsumer implements KafkaEventHandler {
 
-            // Traitement de l'événement client créé
-            // Exemple: envoyer une notification, mettre à jour un cache, etc.
+    private final EventEnvelopeCodec eventEnvelopeCodec;
+    private final KernelClientDirectory clientDirectory;
+    private final KafkaBatchProcessor batchProcessor;
 
-            acknowledgment.acknowledge();
-            log.info("Événement client-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement client-created: {}", e.getMessage(), e);
-            // Ne pas acknowledge en cas d'erreur pour retraiter le message
-        }
+    /**
+     * Every instance holds its own directory cache, so every instance must see every event: the
+     * group is per instance ({@code comops.instance-id}, random by default) and starts from the
+     * latest offset, as older events concern entries the fresh cache does not hold.
+     */
+    @KafkaListener(topics = {"client-created", "client-updated", "client-deleted"},
+            groupId = "${spring.kafka.consumer.group-id}-client-directory-${comops.instance-id:#{T(java.util.UUID).randomUUID()}}",
+            concurrency = "1",
+            properties = "auto.offset.reset=latest")
+    public void consumeClientEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "client-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeClientUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - client-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement client mis à jour
-
-            acknowledgment.acknowledge();
-            log.info("Événement client-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement client-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "client-directory";
     }
 
-    @KafkaListener(topics = "client-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeClientDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - client-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement client supprimé
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        return Mono.fromRunnable(() -> invalidateDirectory(record));
+    }
 
-            acknowledgment.acknowledge();
-            log.info("Événement client-deleted traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement client-deleted: {}", e.getMessage(), e);
+    /**
+     * Drops the cached client directory of the event's organization,
+     * or of every organization when the event does not carry one.
+     */
+    private void invalidateDirectory(ConsumerRecord<String, byte[]> record) {
+        UUID organizationId = KafkaBatchProcessor.organizationId(record);
+        if (organizationId == null) {
+            try {
+                EventEnvelope event = eventEnvelopeCodec.decode(record);
+                organizationId = event.getOrganizationId();
+                JsonNode org = event.getPayload() == null ? null : event.getPayload().get("tenantId");
+                if (organizationId == null && org != null && org.isTextual()) {
+                    organizationId = UUID.fromString(org.asText());
+                }
+            } catch (Exception e) {
+                log.debug("Organisation introuvable dans l'événement client: {}", e.getMessage());
+            }
+        }
+        if (organizationId != null) {
+            clientDirectory.invalidate(organizationId);
+        } else {
+            clientDirectory.invalidateAll();
         }
     }
 }
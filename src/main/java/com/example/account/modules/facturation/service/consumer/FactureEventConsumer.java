@@ -1,91 +1,108 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.context.ReactiveOrganizationContext;
+import com.example.account.modules.core.dto.EventEnvelope;
+import com.example.account.modules.core.service.EventEnvelopeCodec;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
+import com.example.account.modules.facturation.domain.port.input.FactureUseCase;
+import com.example.account.modules.facturation.service.PdfRenderScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class FactureEventConsumer {
-
-    private final ObjectMapper objectMapper;
+public class FactureEventConsumer implements KafkaEventHandler {
 
-    @KafkaListener(topics = "facture-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeFactureCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
+    private final EventEnvelopeCodec eventEnvelopeCodec;
+    private final FactureUseCase factureUseCase;
+    private final KafkaBatchProcessor batchProcessor;
+    private final PdfRenderScheduler pdfRenderScheduler;
 
-        try {
-            log.info("Événement reçu - facture-created: key={}", key);
-            log.debug("Contenu du message: {}", message);
+    @Value("${comops.pdf.cache.prerender:false}")
+    private boolean prerender;
 
-            // Traitement: génération PDF, envoi email, mise à jour statistiques, etc.
+    @Value("${comops.pdf.cache.prerender-timeout:30s}")
+    private Duration prerenderTimeout;
 
-            acknowledgment.acknowledge();
-            log.info("Événement facture-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement facture-created: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = {"facture-created", "facture-updated", "facture-paid", "facture-deleted"},
+            groupId = "${spring.kafka.consumer.group-id}-facture")
+    public void consumeFactureEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "facture-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeFactureUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - facture-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement facture-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement facture-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "facture";
     }
 
-    @KafkaListener(topics = "facture-paid", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeFacturePaid(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - facture-paid: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement: notification client, mise à jour solde, comptabilité, etc.
-
-            acknowledgment.acknowledge();
-            log.info("Événement facture-paid traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement facture-paid: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "facture-created", "facture-updated" -> {
+                // Traitement: génération PDF, envoi email, mise à jour statistiques, etc.
+                prerenderPdf(record);
+            }
+            case "facture-paid" -> {
+                // Traitement: notification client, mise à jour solde, comptabilité, etc.
+            }
+            case "facture-deleted" -> {
+                // Aucun traitement pour le moment
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 
-    @KafkaListener(topics = "facture-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeFactureDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
+    /**
+     * Warms the PDF cache with the new facture state so the first download is a cache hit.
+     * Best effort and detached from the batch through {@link PdfRenderScheduler#submitBatch}: when
+     * too many pre-renders are already in flight the event is skipped, and a failure is only logged.
+     */
+    private void prerenderPdf(ConsumerRecord<String, byte[]> record) {
+        if (!prerender) {
+            return;
+        }
+        String key = record.key();
         try {
-            log.info("Événement reçu - facture-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement facture-deleted traité avec succès");
+            EventEnvelope event = eventEnvelopeCodec.decode(record);
+            if (event.getAggregateId() != null) {
+                key = event.getAggregateId();
+            }
+            if (key == null) {
+                return;
+            }
+            UUID organizationId = event.getOrganizationId();
+            if (organizationId == null) {
+                log.debug("Pré-rendu du PDF ignoré pour la facture {}: organisation absente de l'événement", key);
+                return;
+            }
+            String factureId = key;
+            boolean submitted = pdfRenderScheduler.submitBatch(factureUseCase.genererPdfFacture(UUID.fromString(factureId))
+                    .timeout(prerenderTimeout)
+                    .contextWrite(ctx -> ctx.put(ReactiveOrganizationContext.ORGANIZATION_ID_KEY, organizationId))
+                    .doOnSuccess(pdf -> log.debug("PDF de la facture {} pré-rendu", factureId))
+                    .doOnError(e -> log.warn("Pré-rendu du PDF de la facture {} impossible: {}", factureId, e.getMessage())));
+            if (!submitted) {
+                log.debug("Pré-rendu du PDF de la facture {} ignoré: voie de rendu saturée", factureId);
+            }
         } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement facture-deleted: {}", e.getMessage(), e);
+            log.warn("Pré-rendu du PDF de la facture {} impossible: {}", key, e.getMessage());
         }
     }
 }
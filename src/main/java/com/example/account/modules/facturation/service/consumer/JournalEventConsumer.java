@@ -1,80 +1,53 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class JournalEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "journal-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeJournalCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset,
-            Acknowledgment acknowledgment) {
+public class JournalEventConsumer implements KafkaEventHandler {
 
-        try {
-            log.info("Événement reçu - journal-created: partition={}, offset={}, key={}", partition, offset, key);
-            log.debug("Contenu du message: {}", message);
+    private final KafkaBatchProcessor batchProcessor;
 
-            // Traitement de l'événement journal créé
-            // Exemple: envoyer une notification, mettre à jour un cache, etc.
-
-            acknowledgment.acknowledge();
-            log.info("Événement journal-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement journal-created: {}", e.getMessage(), e);
-            // Ne pas acknowledge en cas d'erreur pour retraiter le message
-        }
+    @KafkaListener(topics = {"journal-created", "journal-updated", "journal-deleted"}, groupId = "${spring.kafka.consumer.group-id}-journal")
+    public void consumeJournalEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "journal-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeJournalUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - journal-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement journal mis à jour
-
-            acknowledgment.acknowledge();
-            log.info("Événement journal-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement journal-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "journal";
     }
 
-    @KafkaListener(topics = "journal-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeJournalDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - journal-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            // Traitement de l'événement journal supprimé
-
-            acknowledgment.acknowledge();
-            log.info("Événement journal-deleted traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement journal-deleted: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "journal-created" -> {
+                // Traitement de l'événement journal créé
+                // Exemple: envoyer une notification, mettre à jour un cache, etc.
+            }
+            case "journal-updated" -> {
+                // Traitement de l'événement journal mis à jour
+            }
+            case "journal-deleted" -> {
+                // Traitement de l'événement journal supprimé
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 }
@@ -1,72 +1,49 @@
 package com.example.account.modules.facturation.service.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.account.modules.core.service.KafkaBatchProcessor;
+import com.example.account.modules.core.service.KafkaEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class PaiementEventConsumer {
-
-    private final ObjectMapper objectMapper;
-
-    @KafkaListener(topics = "paiement-created", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumePaiementCreated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
+public class PaiementEventConsumer implements KafkaEventHandler {
 
-        try {
-            log.info("Événement reçu - paiement-created: key={}", key);
-            log.debug("Contenu du message: {}", message);
+    private final KafkaBatchProcessor batchProcessor;
 
-            // Traitement: mise à jour facture, enregistrement comptable, notification
-
-            acknowledgment.acknowledge();
-            log.info("Événement paiement-created traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement paiement-created: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = {"paiement-created", "paiement-updated", "paiement-deleted"}, groupId = "${spring.kafka.consumer.group-id}-paiement")
+    public void consumePaiementEvents(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(this, records, acknowledgment);
     }
 
-    @KafkaListener(topics = "paiement-updated", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumePaiementUpdated(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - paiement-updated: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement paiement-updated traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement paiement-updated: {}", e.getMessage(), e);
-        }
+    @Override
+    public String listener() {
+        return "paiement";
     }
 
-    @KafkaListener(topics = "paiement-deleted", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumePaiementDeleted(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_KEY) String key,
-            Acknowledgment acknowledgment) {
-
-        try {
-            log.info("Événement reçu - paiement-deleted: key={}", key);
-            log.debug("Contenu du message: {}", message);
-
-            acknowledgment.acknowledge();
-            log.info("Événement paiement-deleted traité avec succès");
-        } catch (Exception e) {
-            log.error("Erreur lors du traitement de l'événement paiement-deleted: {}", e.getMessage(), e);
+    @Override
+    public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+        log.debug("Événement reçu - {}: partition={}, offset={}, key={}",
+                record.topic(), record.partition(), record.offset(), record.key());
+        log.trace("Taille du message: {} octets", record.serializedValueSize());
+
+        switch (record.topic()) {
+            case "paiement-created" -> {
+                // Traitement: mise à jour facture, enregistrement comptable, notification
+            }
+            case "paiement-updated", "paiement-deleted" -> {
+                // Aucun traitement pour le moment
+            }
+            default -> log.warn("Événement ignoré, topic inattendu: {}", record.topic());
         }
+        return Mono.empty();
     }
 }
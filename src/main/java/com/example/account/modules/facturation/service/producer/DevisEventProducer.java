@@ -1,10 +1,11 @@
 package com.example.account.modules.facturation.service.producer;
-import com.example.account.modules.core.service.KafkaProducerService;
+import com.example.account.modules.core.service.EventOutboxService;
 
 import com.example.account.modules.facturation.dto.response.DevisResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -13,30 +14,30 @@ import java.util.UUID;
 @Slf4j
 public class DevisEventProducer {
 
-    private final KafkaProducerService kafkaProducerService;
+    private final EventOutboxService eventOutboxService;
 
     private static final String DEVIS_CREATED_TOPIC = "devis-created";
     private static final String DEVIS_UPDATED_TOPIC = "devis-updated";
     private static final String DEVIS_DELETED_TOPIC = "devis-deleted";
     private static final String DEVIS_ACCEPTED_TOPIC = "devis-accepted";
 
-    public void publishDevisCreated(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisCreated(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis créé: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_CREATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_CREATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 
-    public void publishDevisUpdated(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisUpdated(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis mis à jour: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_UPDATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_UPDATED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 
-    public void publishDevisDeleted(UUID devisId) {
+    public Mono<Void> publishDevisDeleted(UUID devisId) {
         log.info("Publication de l'événement devis supprimé: {}", devisId);
-        kafkaProducerService.sendMessage(DEVIS_DELETED_TOPIC, devisId.toString(), devisId);
+        return eventOutboxService.append(DEVIS_DELETED_TOPIC, devisId.toString(), devisId);
     }
 
-    public void publishDevisAccepted(DevisResponse devisResponse) {
+    public Mono<Void> publishDevisAccepted(DevisResponse devisResponse) {
         log.info("Publication de l'événement devis accepté: {}", devisResponse.getNumeroDevis());
-        kafkaProducerService.sendMessage(DEVIS_ACCEPTED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
+        return eventOutboxService.append(DEVIS_ACCEPTED_TOPIC, devisResponse.getIdDevis().toString(), devisResponse);
     }
 }
@@ -1,10 +1,11 @@
 package com.example.account.modules.facturation.service.producer;
 
-import com.example.account.modules.core.service.KafkaProducerService;
+import com.example.account.modules.core.service.EventOutboxService;
 import com.example.account.modules.facturation.dto.response.PaiementResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -13,24 +14,24 @@ import java.util.UUID;
 @Slf4j
 public class PaiementEventProducer {
 
-    private final KafkaProducerService kafkaProducerService;
+    private final EventOutboxService eventOutboxService;
 
     private static final String PAIEMENT_CREATED_TOPIC = "paiement-created";
     private static final String PAIEMENT_UPDATED_TOPIC = "paiement-updated";
     private static final String PAIEMENT_DELETED_TOPIC = "paiement-deleted";
 
-    public void publishPaiementCreated(PaiementResponse paiementResponse) {
+    public Mono<Void> publishPaiementCreated(PaiementResponse paiementResponse) {
         log.info("Publication de l'événement paiement créé: {}", paiementResponse.getIdPaiement());
-        kafkaProducerService.sendMessage(PAIEMENT_CREATED_TOPIC, paiementResponse.getIdPaiement().toString(), paiementResponse);
+        return eventOutboxService.append(PAIEMENT_CREATED_TOPIC, paiementResponse.getIdPaiement().toString(), paiementResponse);
     }
 
-    public void publishPaiementUpdated(PaiementResponse paiementResponse) {
+    public Mono<Void> publishPaiementUpdated(PaiementResponse paiementResponse) {
         log.info("Publication de l'événement paiement mis à jour: {}", paiementResponse.getIdPaiement());
-        kafkaProducerService.sendMessage(PAIEMENT_UPDATED_TOPIC, paiementResponse.getIdPaiement().toString(), paiementResponse);
+        return eventOutboxService.append(PAIEMENT_UPDATED_TOPIC, paiementResponse.getIdPaiement().toString(), paiementResponse);
     }
 
-    public void publishPaiementDeleted(UUID paiementId) {
+    public Mono<Void> publishPaiementDeleted(UUID paiementId) {
         log.info("Publication de l'événement paiement supprimé: {}", paiementId);
-        kafkaProducerService.sendMessage(PAIEMENT_DELETED_TOPIC, paiementId.toString(), paiementId);
+        return eventOutboxService.append(PAIEMENT_DELETED_TOPIC, paiementId.toString(), paiementId);
     }
 }
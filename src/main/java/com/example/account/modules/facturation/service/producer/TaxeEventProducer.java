@@ -1,10 +1,11 @@
 package com.example.account.modules.facturation.service.producer;
-import com.example.account.modules.core.service.KafkaProducerService;
 
+import com.example.account.modules.core.service.EventOutboxService;
 import com.example.account.modules.facturation.dto.response.TaxeResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -13,39 +14,24 @@ import java.util.UUID;
 @Slf4j
 public class TaxeEventProducer {
 
-    private final KafkaProducerService kafkaProducerService;
+    private final EventOutboxService eventOutboxService;
 
     private static final String TAXE_CREATED_TOPIC = "taxe-created";
     private static final String TAXE_UPDATED_TOPIC = "taxe-updated";
     private static final String TAXE_DELETED_TOPIC = "taxe-deleted";
 
-    public void publishTaxeCreated(TaxeResponse taxeResponse) {
-        try {
-            log.info("Publication de l'événement Taxe créée: {}", taxeResponse.getIdTaxe());
-            kafkaProducerService.sendMessage(TAXE_CREATED_TOPIC, taxeResponse);
-            log.info("Événement Taxe créée publié avec succès pour: {}", taxeResponse.getIdTaxe());
-        } catch (Exception e) {
-            log.error("Erreur lors de la publication de l'événement Taxe créée: {}", e.getMessage(), e);
-        }
+    public Mono<Void> publishTaxeCreated(TaxeResponse taxeResponse) {
+        log.info("Publication de l'événement Taxe créée: {}", taxeResponse.getIdTaxe());
+        return eventOutboxService.append(TAXE_CREATED_TOPIC, taxeResponse.getIdTaxe().toString(), taxeResponse);
     }
 
-    public void publishTaxeUpdated(TaxeResponse taxeResponse) {
-        try {
-            log.info("Publication de l'événement Taxe mise à jour: {}", taxeResponse.getIdTaxe());
-            kafkaProducerService.sendMessage(TAXE_UPDATED_TOPIC, taxeResponse);
-            log.info("Événement Taxe mise à jour publié avec succès pour: {}", taxeResponse.getIdTaxe());
-        } catch (Exception e) {
-            log.error("Erreur lors de la publication de l'événement Taxe mise à jour: {}", e.getMessage(), e);
-        }
+    public Mono<Void> publishTaxeUpdated(TaxeResponse taxeResponse) {
+        log.info("Publication de l'événement Taxe mise à jour: {}", taxeResponse.getIdTaxe());
+        return eventOutboxService.append(TAXE_UPDATED_TOPIC, taxeResponse.getIdTaxe().toString(), taxeResponse);
     }
 
-    public void publishTaxeDeleted(UUID taxeId) {
-        try {
-            log.info("Publication de l'événement Taxe supprimée: {}", taxeId);
-            kafkaProducerService.sendMessage(TAXE_DELETED_TOPIC, taxeId.toString());
-            log.info("Événement Taxe supprimée publié avec succès pour: {}", taxeId);
-        } catch (Exception e) {
-            log.error("Erreur lors de la publication de l'événement Taxe supprimée: {}", e.getMessage(), e);
-        }
+    public Mono<Void> publishTaxeDeleted(UUID taxeId) {
+        log.info("Publication de l'événement Taxe supprimée: {}", taxeId);
+        return eventOutboxService.append(TAXE_DELETED_TOPIC, taxeId.toString(), taxeId);
     }
 }
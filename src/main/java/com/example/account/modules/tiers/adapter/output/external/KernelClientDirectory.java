@@ -0,0 +1,150 @@
+package com.example.account.modules.tiers.adapter.output.external;
+
+import com.example.account.modules.core.config.KernelWebClientConfig;
+import com.example.account.modules.shared.dto.kernel.ApiResponseListThirdPartyResponse;
+import com.example.account.modules.tiers.domain.model.Client;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Per-organization in-memory copy of the Kernel client list, indexed by id, email, username and code.
+ *
+ * Entries are refreshed in the background once {@code refresh-after} has elapsed (the stale directory
+ * keeps serving until the reload completes) and dropped after {@code expire-after}. The client-* topics
+ * invalidate an organization's directory as soon as Kernel reports a change.
+ */
+@Component
+@Slf4j
+public class KernelClientDirectory {
+
+    private final AsyncLoadingCache<UUID, Snapshot> cache;
+    private final WebClient kernelWebClient;
+    private final Duration listResponseTimeout;
+
+    public KernelClientDirectory(WebClient kernelWebClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${comops.kernel.http.list-response-timeout:30s}") Duration listResponseTimeout,
+                                 @Value("${comops.kernel.clients.directory.refresh-after:2m}") Duration refreshAfter,
+                                 @Value("${comops.kernel.clients.directory.expire-after:15m}") Duration expireAfter,
+                                 @Value("${comops.kernel.clients.directory.max-organizations:1000}") long maxOrganizations) {
+        this.kernelWebClient = kernelWebClient;
+        this.listResponseTimeout = listResponseTimeout;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxOrganizations)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .buildAsync((orgId, executor) -> load(orgId)
+                        .doOnNext(snapshot -> log.debug("Annuaire clients chargé pour l'organisation {}: {} clients",
+                                orgId, snapshot.clients.size()))
+                        .toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kernel.clients.directory");
+    }
+
+    public Mono<Snapshot> get(UUID organizationId) {
+        return Mono.fromFuture(() -> cache.get(organizationId));
+    }
+
+    public void invalidate(UUID organizationId) {
+        log.info("Invalidation de l'annuaire clients de l'organisation {}", organizationId);
+        cache.synchronous().invalidate(organizationId);
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidation de l'annuaire clients de toutes les organisations");
+        cache.synchronous().invalidateAll();
+    }
+
+    private Mono<Snapshot> load(UUID orgId) {
+        return kernelWebClient
+                .get()
+                .uri("/api/clients?organizationId={organizationId}", orgId)
+                .httpRequest(KernelWebClientConfig.responseTimeout(listResponseTimeout))
+                .header("X-Organization-ID", orgId.toString())
+                .retrieve()
+                .bodyToMono(ApiResponseListThirdPartyResponse.class)
+                .map(response -> new Snapshot(response.getData() == null ? List.of()
+                        : response.getData().stream().map(KernelClientMapper::toClient).toList()));
+    }
+
+    /**
+     * Immutable view of one organization's clients with hash indexes.
+     * Email, username and code keys are lower-cased.
+     */
+    public static final class Snapshot {
+
+        private final List<Client> clients;
+        private final Map<UUID, Client> byId;
+        private final Map<String, Client> byEmail;
+        private final Map<String, Client> byUsername;
+        private final Map<String, Client> byCode;
+
+        Snapshot(List<Client> clients) {
+            this.clients = List.copyOf(clients);
+            this.byId = index(clients, Client::getIdClient);
+            this.byEmail = index(clients, c -> normalize(c.getEmail()));
+            this.byUsername = index(clients, c -> normalize(c.getUsername()));
+            this.byCode = index(clients, c -> normalize(c.getCodeClient()));
+        }
+
+        public Collection<Client> all() {
+            return clients;
+        }
+
+        public int size() {
+            return clients.size();
+        }
+
+        public Client byId(UUID id) {
+            return lookup(byId, id);
+        }
+
+        public Client byEmail(String email) {
+            return lookup(byEmail, normalize(email));
+        }
+
+        public Client byUsername(String username) {
+            return lookup(byUsername, normalize(username));
+        }
+
+        public Client byCode(String code) {
+            return lookup(byCode, normalize(code));
+        }
+
+        private static <K> Client lookup(Map<K, Client> index, K key) {
+            return key == null ? null : index.get(key);
+        }
+
+        private static <K> Map<K, Client> index(List<Client> clients, Function<Client, K> key) {
+            Map<K, Client> index = new HashMap<>(clients.size() * 2);
+            for (Client client : clients) {
+                K k = key.apply(client);
+                if (k != null) {
+                    // the first occurrence wins, as with the former linear scan
+                    index.putIfAbsent(k, client);
+                }
+            }
+            return Map.copyOf(index);
+        }
+
+        private static String normalize(String value) {
+            return value == null ? null : value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.account.modules.tiers.adapter.output.external;
+
+import com.example.account.modules.shared.dto.kernel.ThirdPartyResponse;
+import com.example.account.modules.tiers.domain.model.Client;
+import com.example.account.modules.tiers.domain.model.enums.TypeClient;
+
+/**
+ * Maps Kernel third parties to billing clients.
+ */
+final class KernelClientMapper {
+
+    private KernelClientMapper() {
+    }
+
+    static Client toClient(ThirdPartyResponse tp) {
+        Client client = new Client();
+        client.setIdClient(tp.getId());
+        client.setOrganizationId(tp.getOrganizationId() != null ? tp.getOrganizationId() : tp.getTenantId());
+        client.setUsername(tp.getDisplayName());
+        client.setRaisonSociale(tp.getName());
+        client.setEmail(null); // non fourni dans ThirdPartyResponse
+        client.setTelephone(null); // non fourni
+        client.setActif(tp.getActive() != null ? tp.getActive() : (tp.getEnabled() != null ? tp.getEnabled() : true));
+        client.setLimiteCredit(tp.getAuthorizedCreditLimit() != null ? tp.getAuthorizedCreditLimit() : 0.0);
+        client.setNumeroTva(tp.getTaxNumber());
+        client.setCodeClient(tp.getCode() != null ? tp.getCode() : tp.getReferenceCode());
+        client.setSoldeCourant(tp.getOperationsBalance() != null ? tp.getOperationsBalance() : 0.0);
+        client.setCategorie(tp.getThirdPartyFamily());
+        
+        // determine client type if possible
+        if ("ACTOR".equalsIgnoreCase(tp.getPartyType())) {
+            client.setTypeClient(TypeClient.PARTICULIER);
+        } else {
+            client.setTypeClient(TypeClient.ENTREPRISE);
+        }
+        
+        return client;
+    }
+}
@@ -6,15 +6,19 @@ import com.example.account.modules.tiers.domain.model.enums.TypeClient;
 import com.example.account.modules.shared.dto.kernel.ThirdPartyResponse;
 import com.example.account.modules.shared.dto.kernel.ApiResponseListThirdPartyResponse;
 import com.example.account.modules.shared.dto.kernel.ApiResponseThirdPartyResponse;
+import com.example.account.modules.core.adapter.output.external.SingleFlight;
 import com.example.account.modules.core.context.ReactiveOrganizationContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import com.example.account.modules.core.config.KernelWebClientConfig;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -22,10 +26,11 @@ import java.util.UUID;
 @Slf4j
 public class KernelFournisseurAdapter implements FournisseurRepositoryPort {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient kernelWebClient;
+    private final SingleFlight singleFlight;
 
-    @Value("${comops.kernel.ip}")
-    private String kernelIp;
+    @Value("${comops.kernel.http.list-response-timeout:30s}")
+    private Duration listResponseTimeout;
 
     private Mono<UUID> getOrganizationId() {
         return Mono.deferContextual(ctx -> {
@@ -39,17 +44,16 @@ public class KernelFournisseurAdapter implements FournisseurRepositoryPort {
 
     @Override
     public Mono<Fournisseur> findById(UUID id) {
-        String url = String.format("http://%s/api/suppliers/%s", kernelIp, id);
-        return getOrganizationId().flatMap(orgId ->
-            webClientBuilder.build()
+        return getOrganizationId().flatMap(orgId -> singleFlight.execute("kernel.suppliers.byId", List.of(orgId, id), () ->
+            kernelWebClient
                     .get()
-                    .uri(url)
+                    .uri("/api/suppliers/{id}", id)
                     .header("X-Organization-ID", orgId.toString())
                     .retrieve()
                     .bodyToMono(ApiResponseThirdPartyResponse.class)
                     .map(ApiResponseThirdPartyResponse::getData)
                     .map(this::mapThirdPartyToFournisseur)
-        );
+        ));
     }
 
     @Override
@@ -97,17 +101,17 @@ public class KernelFournisseurAdapter implements FournisseurRepositoryPort {
 
     @Override
     public Flux<Fournisseur> findAllActiveFournisseurs() {
-        return getOrganizationId().flatMapMany(orgId -> {
-            String url = String.format("http://%s/api/suppliers?organizationId=%s", kernelIp, orgId);
-            return webClientBuilder.build()
+        return getOrganizationId().flatMapMany(orgId -> singleFlight.executeMany("kernel.suppliers.all", orgId, () ->
+            kernelWebClient
                     .get()
-                    .uri(url)
+                    .uri("/api/suppliers?organizationId={organizationId}", orgId)
+                    .httpRequest(KernelWebClientConfig.responseTimeout(listResponseTimeout))
                     .header("X-Organization-ID", orgId.toString())
                     .retrieve()
                     .bodyToMono(ApiResponseListThirdPartyResponse.class)
                     .flatMapMany(response -> Flux.fromIterable(response.getData()))
-                    .map(this::mapThirdPartyToFournisseur);
-        });
+                    .map(this::mapThirdPartyToFournisseur)
+        ));
     }
 
     @Override
@@ -544,3 +544,45 @@ CREATE INDEX IF NOT EXISTS idx_paiements_org ON paiements(organization_id);
 CREATE INDEX IF NOT EXISTS idx_factures_customer ON factures(id_client);
 CREATE INDEX IF NOT EXISTS idx_paiements_customer ON paiements(id_client);
 CREATE INDEX IF NOT EXISTS idx_user_org_perm_user_org ON user_organization_permissions(user_organization_id);
+CREATE INDEX IF NOT EXISTS idx_factures_keyset ON factures(organization_id, created_at DESC, id_facture DESC);
+CREATE INDEX IF NOT EXISTS idx_devis_keyset ON devis(organization_id, date_creation DESC, id_devis DESC);
+CREATE INDEX IF NOT EXISTS idx_paiements_keyset ON paiements(organization_id, created_at DESC, id_paiement DESC);
+CREATE INDEX IF NOT EXISTS idx_taxes_keyset ON taxes(organization_id, created_at DESC, id_taxe DESC);
+CREATE INDEX IF NOT EXISTS idx_bons_commande_keyset ON bons_commande(organization_id, created_at DESC, id_bon_commande DESC);
+CREATE INDEX IF NOT EXISTS idx_factures_org_etat ON factures(organization_id, etat);
+CREATE INDEX IF NOT EXISTS idx_factures_org_client ON factures(organization_id, id_client);
+CREATE INDEX IF NOT EXISTS idx_factures_org_date_facturation ON factures(organization_id, date_facturation);
+CREATE INDEX IF NOT EXISTS idx_factures_org_date_echeance ON factures(organization_id, date_echeance);
+CREATE INDEX IF NOT EXISTS idx_factures_org_numero ON factures(organization_id, numero_facture);
+CREATE INDEX IF NOT EXISTS idx_devis_org_statut ON devis(organization_id, statut);
+CREATE INDEX IF NOT EXISTS idx_devis_org_client ON devis(organization_id, id_client);
+CREATE INDEX IF NOT EXISTS idx_paiements_org_facture ON paiements(organization_id, id_facture);
+CREATE INDEX IF NOT EXISTS idx_paiements_org_client ON paiements(organization_id, id_client);
+CREATE INDEX IF NOT EXISTS idx_paiements_org_date ON paiements(organization_id, date);
+CREATE INDEX IF NOT EXISTS idx_taxes_org_actif_type ON taxes(organization_id, actif, type_taxe);
+CREATE TABLE IF NOT EXISTS facture_daily_rollup (
+    organization_id UUID NOT NULL,
+    day DATE NOT NULL,
+    devise VARCHAR(20) NOT NULL DEFAULT '',
+    etat VARCHAR(50) NOT NULL DEFAULT '',
+    count BIGINT NOT NULL DEFAULT 0,
+    sum_ht NUMERIC(19,2) NOT NULL DEFAULT 0,
+    sum_tva NUMERIC(19,2) NOT NULL DEFAULT 0,
+    sum_ttc NUMERIC(19,2) NOT NULL DEFAULT 0,
+    sum_total NUMERIC(19,2) NOT NULL DEFAULT 0,
+    sum_restant NUMERIC(19,2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (organization_id, day, devise, etat)
+);
+CREATE TABLE IF NOT EXISTS event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload TEXT,
+    payload_binary BYTEA,
+    payload_type VARCHAR(255),
+    organization_id UUID,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    parked_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
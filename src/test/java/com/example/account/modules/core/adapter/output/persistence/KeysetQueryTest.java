@@ -0,0 +1,128 @@
+package com.example.account.modules.core.adapter.output.persistence;
+
+import com.example.account.modules.core.domain.model.KeysetCursor;
+import com.example.account.modules.core.domain.model.KeysetPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetQueryTest {
+
+    private static final UUID ORGANIZATION = UUID.randomUUID();
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 15, 10, 0);
+
+    private static final Comparator<Row> NEWEST_FIRST = Comparator.comparing(Row::sortValue)
+            .thenComparing(Row::id)
+            .reversed();
+
+    @Test
+    void exactlyOnePageHasNoNextCursor() {
+        KeysetPage<UUID> page = page(rows(3), 3);
+
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void extraRowYieldsCursorOnLastRowKept() {
+        List<Row> rows = rows(4);
+
+        KeysetPage<UUID> page = page(rows, 3);
+
+        assertThat(page.getContent()).containsExactly(rows.get(0).id(), rows.get(1).id(), rows.get(2).id());
+        KeysetCursor cursor = KeysetCursor.decode(page.getNextCursor(), ORGANIZATION);
+        assertThat(cursor.getSortValue()).isEqualTo(rows.get(2).sortValue());
+        assertThat(cursor.getId()).isEqualTo(rows.get(2).id());
+    }
+
+    @Test
+    void emptyResultIsAnEmptyLastPage() {
+        KeysetPage<UUID> page = page(List.of(), 3);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void pagingThroughTiedSortValuesReturnsEveryRowOnce() {
+        List<Row> all = new ArrayList<>();
+        IntStream.range(0, 7).forEach(i -> all.add(new Row(DAY, UUID.randomUUID())));
+        IntStream.range(0, 4).forEach(i -> all.add(new Row(DAY.minusDays(1), UUID.randomUUID())));
+        all.sort(NEWEST_FIRST);
+
+        List<UUID> seen = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+        do {
+            KeysetCursor cursor = KeysetCursor.decode(token, ORGANIZATION);
+            List<Row> remaining = all.stream().filter(row -> after(row, cursor)).limit(4).toList();
+            KeysetPage<UUID> page = page(remaining, 3);
+            seen.addAll(page.getContent());
+            token = page.getNextCursor();
+            pages++;
+        } while (token != null);
+
+        assertThat(seen).containsExactlyElementsOf(all.stream().map(Row::id).toList());
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void queryFetchesOneExtraRowNewestFirst() {
+        Query query = KeysetQuery.after(ORGANIZATION, null, "dateFacturation", "idFacture", 50);
+
+        assertThat(query.getLimit()).isEqualTo(51);
+        assertThat(query.getSort()).containsExactly(Sort.Order.desc("dateFacturation"), Sort.Order.desc("idFacture"));
+    }
+
+    @Test
+    void cursorIsBoundToItsOrganization() {
+        String token = new KeysetCursor(ORGANIZATION, DAY, UUID.randomUUID()).encode();
+
+        assertThat(KeysetCursor.decode(null, ORGANIZATION)).isNull();
+        assertThat(KeysetCursor.decode(" ", ORGANIZATION)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode(token, UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("pas-un-curseur", ORGANIZATION))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Curseur de pagination invalide");
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(KeysetPage.clampSize(0)).isEqualTo(KeysetPage.DEFAULT_SIZE);
+        assertThat(KeysetPage.clampSize(-1)).isEqualTo(KeysetPage.DEFAULT_SIZE);
+        assertThat(KeysetPage.clampSize(KeysetPage.MAX_SIZE)).isEqualTo(KeysetPage.MAX_SIZE);
+        assertThat(KeysetPage.clampSize(KeysetPage.MAX_SIZE + 1)).isEqualTo(KeysetPage.MAX_SIZE);
+    }
+
+    /**
+     * The seek predicate of {@link KeysetQuery#after}: (sort, id) strictly before the cursor.
+     */
+    private static boolean after(Row row, KeysetCursor cursor) {
+        return cursor == null || NEWEST_FIRST.compare(row, new Row(cursor.getSortValue(), cursor.getId())) > 0;
+    }
+
+    private static KeysetPage<UUID> page(List<Row> rows, int limit) {
+        return KeysetQuery.toPage(Flux.fromIterable(rows), ORGANIZATION, limit, Row::sortValue, Row::id, Row::id).block();
+    }
+
+    private static List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(DAY.minusHours(i), UUID.randomUUID()))
+                .toList();
+    }
+
+    private record Row(LocalDateTime sortValue, UUID id) {
+    }
+}
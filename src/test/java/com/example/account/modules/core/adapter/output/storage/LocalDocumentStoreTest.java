@@ -0,0 +1,54 @@
+package com.example.account.modules.core.adapter.output.storage;
+
+import com.example.account.modules.core.domain.port.output.DocumentStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalDocumentStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void invalidKeysAreSignalledInsideTheMono() throws IOException {
+        LocalDocumentStore store = new LocalDocumentStore(root.toString());
+
+        for (String key : new String[] {"../../etc/passwd", "pdfs/factures/facture_F-001.pdf", "", null}) {
+            Mono<byte[]> read = store.get(key);
+            assertThatThrownBy(read::block).as(String.valueOf(key))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Clé de document invalide");
+        }
+    }
+
+    @Test
+    void checkKeyAcceptsOnlyContentAddressedKeys() {
+        String key = DocumentStore.key("factures", "%PDF".getBytes(StandardCharsets.UTF_8), "pdf");
+
+        assertThat(DocumentStore.checkKey(key)).isEqualTo(key);
+        assertThatThrownBy(() -> DocumentStore.checkKey(key.toUpperCase()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DocumentStore.checkKey("factures/../" + key.substring(key.indexOf('/') + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void identicalContentIsStoredOnce() throws IOException {
+        LocalDocumentStore store = new LocalDocumentStore(root.toString());
+        byte[] content = "%PDF-1".getBytes(StandardCharsets.UTF_8);
+
+        String first = store.put("factures", content, "pdf").block();
+        String second = store.put("factures", content, "pdf").block();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(store.get(first).block()).isEqualTo(content);
+    }
+}
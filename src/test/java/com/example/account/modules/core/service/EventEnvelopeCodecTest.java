@@ -0,0 +1,93 @@
+package com.example.account.modules.core.service;
+
+import com.example.account.modules.core.dto.EventEnvelope;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventEnvelopeCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final EventEnvelopeCodec codec = new EventEnvelopeCodec(objectMapper,
+            new MockEnvironment().withProperty("comops.events.topics.facture-updated.format", "smile"), "json");
+
+    @Test
+    void formatDefaultsToJsonAndCanBeSwitchedPerTopic() {
+        assertThat(codec.isBinary("facture-created")).isFalse();
+        assertThat(codec.isBinary("facture-updated")).isTrue();
+    }
+
+    @Test
+    void smileEnvelopeRoundTrips() {
+        UUID organizationId = UUID.randomUUID();
+        EventEnvelope envelope = codec.wrap("facture-updated", "F-001", organizationId,
+                Map.of("numeroFacture", "F-001", "version", 3));
+
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("facture-updated", 0, 0L, "F-001", codec.encode(envelope));
+        record.headers().add(EventEnvelopeCodec.CONTENT_TYPE_HEADER, EventEnvelopeCodec.SMILE.getBytes(StandardCharsets.UTF_8));
+        EventEnvelope decoded = codec.decode(record);
+
+        assertThat(decoded).isEqualTo(envelope);
+        assertThat(decoded.getSchemaVersion()).isEqualTo(EventEnvelope.SCHEMA_VERSION);
+        assertThat(decoded.getAggregateVersion()).isEqualTo(3L);
+        assertThat(codec.payload(decoded, JsonNode.class).get("numeroFacture").asText()).isEqualTo("F-001");
+    }
+
+    @Test
+    void bareJsonDocumentIsWrappedAsVersionZero() {
+        UUID organizationId = UUID.randomUUID();
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("client-updated", 2, 10L, "C-001",
+                ("{\"nom\":\"Client\",\"organizationId\":\"" + organizationId + "\"}").getBytes(StandardCharsets.UTF_8));
+
+        EventEnvelope decoded = codec.decode(record);
+
+        assertThat(decoded.getSchemaVersion()).isZero();
+        assertThat(decoded.getEventType()).isEqualTo("client-updated");
+        assertThat(decoded.getAggregateId()).isEqualTo("C-001");
+        assertThat(decoded.getOrganizationId()).isEqualTo(organizationId);
+        assertThat(decoded.getOccurredAt()).isEqualTo(Instant.ofEpochMilli(record.timestamp()));
+        assertThat(decoded.getPayload().get("nom").asText()).isEqualTo("Client");
+    }
+
+    @Test
+    void jsonEnvelopeIsReadAsAnEnvelope() throws Exception {
+        EventEnvelope envelope = codec.wrap("devis-created", "D-001", null, Map.of("numero", "D-001"));
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("devis-created", 0, 0L, "D-001",
+                objectMapper.writeValueAsBytes(envelope));
+
+        assertThat(codec.decode(record)).isEqualTo(envelope);
+    }
+
+    @Test
+    void deletionPublishedAsJsonCarriesTheId() {
+        UUID id = UUID.randomUUID();
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("facture-deleted", 0, 0L, id.toString(),
+                codec.toJson(id).getBytes(StandardCharsets.UTF_8));
+
+        EventEnvelope decoded = codec.decode(record);
+
+        assertThat(decoded.getAggregateId()).isEqualTo(id.toString());
+        assertThat(codec.payload(decoded, UUID.class)).isEqualTo(id);
+    }
+
+    @Test
+    void unreadableRecordFails() {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("facture-created", 0, 0L, "F-001",
+                "{pas du json".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.decode(record))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Événement illisible sur facture-created");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.account.modules.core.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Follows a record that keeps failing through the retry tiers down to its dead-letter topic.
+ */
+@ExtendWith(MockitoExtension.class)
+class KafkaBatchProcessorRetryTest {
+
+    private static final String TOPIC = "facture-created";
+
+    @Mock
+    private ReactiveTransactionManager transactionManager;
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private KafkaBatchProcessor processor;
+
+    private final KafkaEventHandler failing = new KafkaEventHandler() {
+        @Override
+        public String listener() {
+            return "facture";
+        }
+
+        @Override
+        public Mono<Void> handle(ConsumerRecord<String, byte[]> record) {
+            return Mono.error(new IllegalStateException("échec " + record.topic()));
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        processor = new KafkaBatchProcessor(transactionManager, kafkaTemplate, new SimpleMeterRegistry(),
+                Duration.ofSeconds(5));
+    }
+
+    @Test
+    void failingRecordMovesThroughEveryTierToTheDeadLetterTopic() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        UUID organizationId = UUID.randomUUID();
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(TOPIC, 0, 0L, "F-001",
+                "{}".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(OutboxRelay.ORGANIZATION_HEADER, organizationId.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<String> expectedTopics = List.of(TOPIC + "-retry-1s", TOPIC + "-retry-30s", TOPIC + "-retry-5m",
+                TOPIC + RetryTopics.DLT_SUFFIX);
+        for (int attempt = 1; attempt <= expectedTopics.size(); attempt++) {
+            long before = System.currentTimeMillis();
+            ProducerRecord<String, byte[]> retry = failOnce(record);
+
+            assertThat(retry.topic()).isEqualTo(expectedTopics.get(attempt - 1));
+            assertThat(retry.key()).isEqualTo("F-001");
+            assertThat(header(retry, RetryTopics.ORIGINAL_TOPIC_HEADER)).isEqualTo(TOPIC);
+            assertThat(header(retry, RetryTopics.LISTENER_HEADER)).isEqualTo("facture");
+            assertThat(header(retry, RetryTopics.ATTEMPT_HEADER)).isEqualTo(String.valueOf(attempt));
+            assertThat(header(retry, RetryTopics.EXCEPTION_HEADER)).contains("IllegalStateException");
+            assertThat(header(retry, OutboxRelay.ORGANIZATION_HEADER)).isEqualTo(organizationId.toString());
+            assertThat(retry.headers().headers(RetryTopics.ATTEMPT_HEADER)).hasSize(1);
+            if (attempt <= RetryTopics.DELAYS.size()) {
+                assertThat(Long.parseLong(header(retry, RetryTopics.DUE_AT_HEADER)))
+                        .isGreaterThanOrEqualTo(before + RetryTopics.DELAYS.get(attempt - 1).toMillis());
+            } else {
+                assertThat(retry.headers().lastHeader(RetryTopics.DUE_AT_HEADER)).isNull();
+            }
+            record = consumed(retry);
+        }
+        verifyNoInteractions(transactionManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> failOnce(ConsumerRecord<String, byte[]> record) {
+        List<KafkaBatchProcessor.Failure> failures = processor.apply("facture", List.of(record), r -> failing);
+        assertThat(failures).hasSize(1);
+        processor.retry(failures);
+        ArgumentCaptor<ProducerRecord<String, byte[]>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, atLeastOnce()).send(sent.capture());
+        return sent.getValue();
+    }
+
+    private static ConsumerRecord<String, byte[]> consumed(ProducerRecord<String, byte[]> sent) {
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(sent.topic(), 0, 0L, sent.key(), sent.value());
+        for (Header header : sent.headers()) {
+            record.headers().add(header);
+        }
+        return record;
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
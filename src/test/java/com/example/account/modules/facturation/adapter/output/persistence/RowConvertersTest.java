@@ -0,0 +1,149 @@
+package com.example.account.modules.facturation.adapter.output.persistence;
+
+import com.example.account.modules.core.config.JsonbLineCodecs;
+import com.example.account.modules.facturation.domain.model.LigneDevis;
+import com.example.account.modules.facturation.domain.model.LigneFacture;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Guards the hand-written Row converters against drift: every column mapped on the entity must be
+ * read into its property, so a column added to an entity but not to its converter fails here.
+ */
+class RowConvertersTest {
+
+    private static final R2dbcMappingContext MAPPING_CONTEXT = new R2dbcMappingContext();
+
+    private final JsonbLineCodecs codecs = new JsonbLineCodecs(new ObjectMapper(), new SimpleMeterRegistry())
+            .register(LigneFacture.class)
+            .register(LigneDevis.class);
+
+    @Test
+    void factureConverterReadsEveryMappedColumn() {
+        assertReadsEveryColumn(FacturePersistenceEntity.class, FacturePersistenceEntity::new,
+                new FactureRowConverter(codecs));
+    }
+
+    @Test
+    void devisConverterReadsEveryMappedColumn() {
+        assertReadsEveryColumn(DevisPersistenceEntity.class, DevisPersistenceEntity::new,
+                new DevisRowConverter(codecs));
+    }
+
+    @Test
+    void paiementConverterReadsEveryMappedColumn() {
+        assertReadsEveryColumn(PaiementPersistenceEntity.class, PaiementPersistenceEntity::new,
+                new PaiementRowConverter());
+    }
+
+    @Test
+    void missingColumnsKeepEntityDefaults() {
+        UUID id = UUID.randomUUID();
+        FacturePersistenceEntity facture = new FactureRowConverter(codecs).convert(row(Map.of("id_facture", id)));
+
+        assertThat(facture.getIdFacture()).isEqualTo(id);
+        assertThat(facture.getLignesFacture()).isNull();
+        assertThat(facture.getTauxChange()).isEqualByComparingTo(BigDecimal.ONE);
+        assertThat(facture.getVersion()).isZero();
+    }
+
+    private static <E> void assertReadsEveryColumn(Class<E> entityType, Supplier<E> defaults, Converter<Row, E> converter) {
+        RelationalPersistentEntity<?> entity = MAPPING_CONTEXT.getRequiredPersistentEntity(entityType);
+        PersistentPropertyAccessor<E> defaultValues = entity.getPropertyAccessor(defaults.get());
+        Map<String, Object> columns = new HashMap<>();
+        Map<RelationalPersistentProperty, Object> expected = new HashMap<>();
+        entity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+            Object value = sample(property, defaultValues.getProperty(property));
+            columns.put(property.getColumnName().getReference(), value instanceof Enum<?> e ? e.name() : value);
+            expected.put(property, value);
+        });
+
+        PersistentPropertyAccessor<E> converted = entity.getPropertyAccessor(converter.convert(row(columns)));
+
+        expected.forEach((property, value) -> {
+            Object actual = converted.getProperty(property);
+            if (value instanceof Json) {
+                assertThat(actual).as(property.getName()).isInstanceOf(Collection.class);
+                assertThat((Collection<?>) actual).as(property.getName()).hasSize(1);
+            } else {
+                assertThat(actual).as(property.getName()).isEqualTo(value);
+            }
+        });
+    }
+
+    /**
+     * A non-null value for the property, different from the entity default so that an unread
+     * column cannot pass.
+     */
+    private static Object sample(RelationalPersistentProperty property, Object defaultValue) {
+        Class<?> type = property.getType();
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (type == String.class) {
+            return property.getName() + "-valeur";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2024, 3, 15, 10, 30);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.of(2024, 3, 15);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal("12.34");
+        }
+        if (type == Boolean.class) {
+            return !Boolean.TRUE.equals(defaultValue);
+        }
+        if (type == Integer.class) {
+            return 7;
+        }
+        if (type == Long.class) {
+            return 42L;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1] != defaultValue ? constants[constants.length - 1] : constants[0];
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return Json.of("[{}]");
+        }
+        return fail("Type de colonne non géré par le test: " + type.getName() + " (" + property.getName() + ")");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Row row(Map<String, Object> columns) {
+        Row row = mock(Row.class);
+        RowMetadata metadata = mock(RowMetadata.class);
+        when(row.getMetadata()).thenReturn(metadata);
+        when(metadata.contains(anyString())).thenAnswer(invocation -> columns.containsKey(invocation.<String>getArgument(0)));
+        when(row.get(anyString(), any(Class.class))).thenAnswer(invocation -> columns.get(invocation.<String>getArgument(0)));
+        return row;
+    }
+}
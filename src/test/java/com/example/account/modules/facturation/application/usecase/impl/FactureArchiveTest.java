@@ -0,0 +1,139 @@
+package com.example.account.modules.facturation.application.usecase.impl;
+
+import com.example.account.modules.core.domain.model.ArchiveEntry;
+import com.example.account.modules.core.dto.ZipStream;
+import com.example.account.modules.facturation.domain.model.Facture;
+import com.example.account.modules.facturation.domain.port.output.AccountingServicePort;
+import com.example.account.modules.facturation.domain.port.output.FactureEventPort;
+import com.example.account.modules.facturation.domain.port.output.FactureRepositoryPort;
+import com.example.account.modules.facturation.mapper.FactureMapper;
+import com.example.account.modules.facturation.service.EmailService;
+import com.example.account.modules.facturation.service.FacturePdfCache;
+import com.example.account.modules.facturation.service.Journals.FactureJournalService;
+import com.example.account.modules.facturation.service.PdfGeneratorService;
+import com.example.account.modules.tiers.domain.model.Client;
+import com.example.account.modules.tiers.domain.port.output.ClientRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FactureArchiveTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private FactureRepositoryPort factureRepository;
+    @Mock
+    private FactureMapper factureMapper;
+    @Mock
+    private FactureEventPort factureEventPort;
+    @Mock
+    private PdfGeneratorService pdfGeneratorService;
+    @Mock
+    private FacturePdfCache facturePdfCache;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private AccountingServicePort accountingService;
+    @Mock
+    private FactureJournalService factureJournalService;
+    @Mock
+    private ClientRepositoryPort clientRepository;
+
+    private FactureUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FactureUseCaseImpl(factureRepository, factureMapper, factureEventPort, pdfGeneratorService,
+                facturePdfCache, emailService, accountingService, factureJournalService, clientRepository);
+        ReflectionTestUtils.setField(useCase, "archiveConcurrency", 2);
+    }
+
+    @Test
+    void failingEntriesAreListedInsteadOfTruncatingTheArchive() throws IOException {
+        Client client = Client.builder().idClient(UUID.randomUUID()).build();
+        UUID missingClient = UUID.randomUUID();
+        Facture rendered = facture("F-001", client.getIdClient());
+        Facture withoutClient = facture("F-002", missingClient);
+        Facture failedRender = facture("F-003", client.getIdClient());
+
+        when(factureRepository.findByDateFacturationBetween(FROM, TO))
+                .thenReturn(Flux.just(rendered, withoutClient, failedRender));
+        when(clientRepository.findById(client.getIdClient())).thenReturn(Mono.just(client));
+        when(clientRepository.findById(missingClient)).thenReturn(Mono.empty());
+        when(facturePdfCache.get(eq(rendered), any())).thenReturn(Mono.just("%PDF-1".getBytes(StandardCharsets.UTF_8)));
+        when(facturePdfCache.get(eq(failedRender), any())).thenReturn(Mono.error(new IllegalStateException("rendu impossible")));
+
+        Map<String, String> entries = unzip(useCase.genererArchivePdf(FROM, TO));
+
+        assertThat(entries).containsOnlyKeys("facture_F-001.pdf", FactureUseCaseImpl.ARCHIVE_ERRORS_ENTRY);
+        assertThat(entries.get("facture_F-001.pdf")).isEqualTo("%PDF-1");
+        assertThat(entries.get(FactureUseCaseImpl.ARCHIVE_ERRORS_ENTRY))
+                .contains("facture_F-002: Client non trouvé: " + missingClient)
+                .contains("facture_F-003: rendu impossible");
+    }
+
+    @Test
+    void archiveWithoutFailuresHasNoErrorsEntry() throws IOException {
+        Client client = Client.builder().idClient(UUID.randomUUID()).build();
+        Facture facture = facture("F-001", client.getIdClient());
+        when(factureRepository.findByDateFacturationBetween(FROM, TO)).thenReturn(Flux.just(facture));
+        when(clientRepository.findById(client.getIdClient())).thenReturn(Mono.just(client));
+        when(facturePdfCache.get(eq(facture), any())).thenReturn(Mono.just(new byte[] {1, 2, 3}));
+
+        assertThat(unzip(useCase.genererArchivePdf(FROM, TO))).containsOnlyKeys("facture_F-001.pdf");
+    }
+
+    private static Facture facture(String numero, UUID idClient) {
+        return Facture.builder().idFacture(UUID.randomUUID()).numeroFacture(numero).idClient(idClient).build();
+    }
+
+    /**
+     * Writes the entries through {@link ZipStream} and reads the archive back, which also checks
+     * that it is a complete, well-formed ZIP.
+     */
+    private static Map<String, String> unzip(Flux<ArchiveEntry> entries) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        ZipStream.write(entries, DefaultDataBufferFactory.sharedInstance)
+                .doOnNext(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    archive.writeBytes(bytes);
+                    DataBufferUtils.release(buffer);
+                })
+                .blockLast();
+
+        Map<String, String> contents = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                contents.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return contents;
+    }
+}